@@ -0,0 +1,88 @@
+package io.github.gabrielgnoga.nexus_core_ledger.benchmark;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a aritmética de saldo feita em cada lançamento (mesmas operações de
+ * {@code TransactionService.applyPosting}), com {@link BigDecimal} e com {@link Money}.
+ *
+ * <p>O saldo vem do banco com escala 4 ({@code numeric(19,4)}) e o valor da requisição
+ * normalmente com escala 2, então as operações com {@link BigDecimal} incluem o ajuste de escala.</p>
+ *
+ * <p>Execução, com a alocação por operação ({@code gc.alloc.rate.norm}):
+ * {@code mvn -Pjmh test-compile exec:exec -Djmh.args="BalanceArithmeticBenchmark -prof gc"}</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BalanceArithmeticBenchmark {
+
+    private BigDecimal balance;
+    private BigDecimal amount;
+    private Money moneyBalance;
+    private Money moneyAmount;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        balance = new BigDecimal("98765432.1000");
+        amount = new BigDecimal("150.50");
+        moneyBalance = Money.of(balance);
+        moneyAmount = Money.of(amount);
+    }
+
+    /** Crédito: saldo + valor. */
+    @Benchmark
+    public BigDecimal credit() {
+        return balance.add(amount);
+    }
+
+    /** Débito: saldo - valor, com a checagem de saldo negativo. */
+    @Benchmark
+    public BigDecimal debit() {
+        BigDecimal next = balance.subtract(amount);
+        if (next.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalStateException("saldo insuficiente");
+        }
+        return next;
+    }
+
+    /** Lançamento acumulado: o saldo resultante alimenta a próxima operação. */
+    @Benchmark
+    public BigDecimal runningBalance() {
+        balance = balance.add(amount);
+        return balance;
+    }
+
+    /** Crédito em ponto fixo. */
+    @Benchmark
+    public Money moneyCredit() {
+        return moneyBalance.plus(moneyAmount);
+    }
+
+    /** Débito em ponto fixo, com a checagem de saldo negativo. */
+    @Benchmark
+    public Money moneyDebit() {
+        Money next = moneyBalance.minus(moneyAmount);
+        if (next.isNegative()) {
+            throw new IllegalStateException("saldo insuficiente");
+        }
+        return next;
+    }
+
+    /** Lançamento acumulado em ponto fixo. */
+    @Benchmark
+    public Money moneyRunningBalance() {
+        moneyBalance = moneyBalance.plus(moneyAmount);
+        return moneyBalance;
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.gabrielgnoga.nexus_core_ledger.benchmark;
+
+import io.github.gabrielgnoga.nexus_core_ledger.NexusCoreLedgerApplication;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.JournalEntryRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.JournalEntryResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.JournalLegDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.service.JournalEntryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a vazão de transferências concorrentes entre um pequeno conjunto de contas via
+ * {@link JournalEntryService#create}, o cenário de maior disputa pelos locks de linha.
+ *
+ * <p>Cada operação transfere 1.00 entre duas contas distintas sorteadas, em qualquer sentido.
+ * Com a ordenação dos locks por UUID, nenhuma iteração deve falhar por deadlock.</p>
+ *
+ * <p>Execução: {@code mvn -Pjmh test-compile exec:exec -Djmh.args="JournalEntryBenchmark"}</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class JournalEntryBenchmark {
+
+    private static final BigDecimal TRANSFER = new BigDecimal("1.00");
+
+    @Param({"2", "8", "64"})
+    public int accounts;
+
+    private ConfigurableApplicationContext context;
+    private JournalEntryService journalEntryService;
+    private UUID[] accountIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(NexusCoreLedgerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:bench_" + UUID.randomUUID() + ";LOCK_TIMEOUT=10000",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+
+        AccountRepository accountRepository = context.getBean(AccountRepository.class);
+        accountIds = new UUID[accounts];
+        for (int i = 0; i < accounts; i++) {
+            Account account = new Account();
+            account.setName("Conta Benchmark " + i);
+            account.setAccountType(AccountType.ASSET);
+            account.setBalance(Money.of(new BigDecimal("1000000000.00")));
+            accountIds[i] = accountRepository.save(account).getId();
+        }
+        journalEntryService = context.getBean(JournalEntryService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public JournalEntryResponseDTO transfer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int from = random.nextInt(accountIds.length);
+        int to = (from + 1 + random.nextInt(accountIds.length - 1)) % accountIds.length;
+        return journalEntryService.create(new JournalEntryRequestDTO("benchmark", List.of(
+                new JournalLegDTO(accountIds[from], TRANSFER, TransactionType.DEBIT),
+                new JournalLegDTO(accountIds[to], TRANSFER, TransactionType.CREDIT))));
+    }
+}
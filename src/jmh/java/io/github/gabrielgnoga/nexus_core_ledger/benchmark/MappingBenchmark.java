@@ -0,0 +1,71 @@
+package io.github.gabrielgnoga.nexus_core_ledger.benchmark;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Transaction;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.UuidV7Generator;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.AccountResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.mapper.AccountMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a conversão de entidades para DTOs feita em toda resposta da API:
+ * {@link AccountMapper#toDTO} e {@link TransactionResponseDTO#fromEntity}.
+ *
+ * <p>Execução: {@code mvn -Pjmh test-compile exec:exec -Djmh.args="MappingBenchmark"}</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private AccountMapper accountMapper;
+    private Account account;
+    private Transaction transaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        accountMapper = new AccountMapper();
+
+        account = Account.builder()
+                .id(UuidV7Generator.next())
+                .name("Conta Benchmark")
+                .balance(Money.of(new BigDecimal("1534.2500")))
+                .currency("BRL")
+                .accountType(AccountType.ASSET)
+                .createdAt(LocalDateTime.now())
+                .version(42L)
+                .build();
+
+        transaction = new Transaction();
+        transaction.setId(UuidV7Generator.next());
+        transaction.setAmount(Money.of(new BigDecimal("150.50")));
+        transaction.setType(TransactionType.CREDIT);
+        transaction.setTimestamp(Transaction.currentTimestamp());
+        transaction.setDescription("benchmark");
+        transaction.setAccount(account);
+    }
+
+    @Benchmark
+    public AccountResponseDTO accountToDTO() {
+        return accountMapper.toDTO(account);
+    }
+
+    @Benchmark
+    public TransactionResponseDTO transactionFromEntity() {
+        return TransactionResponseDTO.fromEntity(transaction);
+    }
+}
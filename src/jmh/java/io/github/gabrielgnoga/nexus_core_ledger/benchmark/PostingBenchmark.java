@@ -0,0 +1,114 @@
+package io.github.gabrielgnoga.nexus_core_ledger.benchmark;
+
+import io.github.gabrielgnoga.nexus_core_ledger.NexusCoreLedgerApplication;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.service.TransactionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o caminho JPA de {@link TransactionService#create} com o motor de
+ * lançamentos particionado ({@code api.ledger.posting-engine.enabled=true}) em H2 embarcado.
+ *
+ * <p>Com o motor ativo, {@code journal} liga o diário local com a política de fsync
+ * informada ({@code ALWAYS}, {@code GROUP} ou {@code NONE}); {@code OFF} desliga o diário.
+ * Ex.: {@code -p postingEngine=true -p journal=OFF,GROUP,ALWAYS}.</p>
+ *
+ * <p>No caminho JPA, {@code groupCommit=true} reúne os lançamentos simultâneos em uma
+ * transação por grupo; ao fim de cada trial é impressa a média de itens por commit.
+ * Ex.: {@code -p postingEngine=false -p groupCommit=false,true -t 1,8,32}.</p>
+ *
+ * <p>Execução: {@code mvn -Pjmh test-compile exec:exec -Djmh.args="PostingBenchmark -t 8"}</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class PostingBenchmark {
+
+    @Param({"false", "true"})
+    public boolean postingEngine;
+
+    @Param({"64"})
+    public int accounts;
+
+    @Param({"OFF"})
+    public String journal;
+
+    @Param({"false"})
+    public boolean groupCommit;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private UUID[] accountIds;
+    private Path journalDirectory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        journalDirectory = Files.createTempDirectory("posting-journal");
+        boolean journalEnabled = !"OFF".equals(journal);
+        context = new SpringApplicationBuilder(NexusCoreLedgerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:bench_" + UUID.randomUUID(),
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--api.ledger.posting-engine.enabled=" + postingEngine,
+                        "--api.ledger.group-commit.enabled=" + groupCommit,
+                        "--api.ledger.posting-engine.journal.enabled=" + journalEnabled,
+                        "--api.ledger.posting-engine.journal.fsync=" + (journalEnabled ? journal : "GROUP"),
+                        "--api.ledger.posting-engine.journal.directory=" + journalDirectory);
+
+        AccountRepository accountRepository = context.getBean(AccountRepository.class);
+        accountIds = new UUID[accounts];
+        for (int i = 0; i < accounts; i++) {
+            Account account = new Account();
+            account.setName("Conta Benchmark " + i);
+            account.setAccountType(AccountType.ASSET);
+            account.setBalance(Money.of(BigDecimal.ZERO));
+            accountIds[i] = accountRepository.save(account).getId();
+        }
+        transactionService = context.getBean(TransactionService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (groupCommit) {
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+            double commits = registry.get("ledger.group_commit.commits").functionCounter().count();
+            double items = registry.get("ledger.group_commit.items").functionCounter().count();
+            System.out.printf("%ngroup commit: %.0f commits, %.1f itens por commit%n", commits, items / Math.max(1, commits));
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionResponseDTO create() {
+        UUID accountId = accountIds[ThreadLocalRandom.current().nextInt(accountIds.length)];
+        return transactionService.create(
+                new TransactionRequestDTO(accountId, new BigDecimal("10.00"), TransactionType.CREDIT, "benchmark"));
+    }
+}
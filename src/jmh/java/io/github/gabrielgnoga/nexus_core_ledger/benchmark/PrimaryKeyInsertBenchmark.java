@@ -0,0 +1,104 @@
+package io.github.gabrielgnoga.nexus_core_ledger.benchmark;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compara a vazão de INSERT em uma tabela com chave primária UUID, usando UUIDv4
+ * (aleatório) e UUIDv7 (ordenado pelo tempo).
+ *
+ * <p>Cada operação insere e confirma um lote de {@code batchSize} linhas (o resultado é em lotes/s). Antes da medição a tabela é
+ * pré-carregada com {@code preloadRows} linhas, para que o índice já esteja grande. Por
+ * padrão usa H2 em memória; para reproduzir o cenário de produção, aponte para um Postgres
+ * com dezenas de milhões de linhas:</p>
+ *
+ * <pre>{@code
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="PrimaryKeyInsertBenchmark \
+ *   -p jdbcUrl=jdbc:postgresql://localhost/bench -p user=bench -p password=bench \
+ *   -p preloadRows=20000000"
+ * }</pre>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimaryKeyInsertBenchmark {
+
+    @Param({"v4", "v7"})
+    public String uuidVersion;
+
+    @Param({"1000000"})
+    public int preloadRows;
+
+    @Param({"1000"})
+    public int batchSize;
+
+    @Param({"jdbc:h2:mem:pk_bench;DB_CLOSE_DELAY=-1"})
+    public String jdbcUrl;
+
+    @Param({"sa"})
+    public String user;
+
+    @Param({""})
+    public String password;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        ids = "v7".equals(uuidVersion) ? UuidV7Generator::next : UUID::randomUUID;
+        connection = DriverManager.getConnection(jdbcUrl, user, password);
+        connection.setAutoCommit(false);
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS pk_bench");
+            ddl.execute("CREATE TABLE pk_bench (id UUID PRIMARY KEY, amount NUMERIC(19, 4) NOT NULL)");
+        }
+        connection.commit();
+        insert = connection.prepareStatement("INSERT INTO pk_bench (id, amount) VALUES (?, ?)");
+
+        for (int loaded = 0; loaded < preloadRows; loaded += batchSize) {
+            insertBatch(Math.min(batchSize, preloadRows - loaded));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE pk_bench");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        return insertBatch(batchSize);
+    }
+
+    private int insertBatch(int rows) throws SQLException {
+        for (int i = 0; i < rows; i++) {
+            insert.setObject(1, ids.get());
+            insert.setLong(2, i);
+            insert.addBatch();
+        }
+        int inserted = insert.executeBatch().length;
+        connection.commit();
+        return inserted;
+    }
+}
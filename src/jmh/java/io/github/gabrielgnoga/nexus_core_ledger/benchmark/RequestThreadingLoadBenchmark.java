@@ -0,0 +1,115 @@
+package io.github.gabrielgnoga.nexus_core_ledger.benchmark;
+
+import io.github.gabrielgnoga.nexus_core_ledger.NexusCoreLedgerApplication;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.User;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.UserRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.service.TokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Teste de carga HTTP comparando o pool de threads de plataforma do Tomcat com a execução
+ * em virtual threads ({@code spring.threads.virtual.enabled}).
+ *
+ * <p>Sobe a aplicação completa em uma porta aleatória e dispara {@code POST /v1/transactions}
+ * autenticados a partir de muitas threads clientes. O modo {@code SampleTime} reporta a
+ * latência média e os percentis (p99, p99.9); a vazão é o inverso da média vezes o número
+ * de threads.</p>
+ *
+ * <p>Execução: {@code mvn -Pjmh test-compile exec:exec -Djmh.args="RequestThreadingLoadBenchmark"}</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(256)
+@State(Scope.Benchmark)
+public class RequestThreadingLoadBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    /** Tamanho do pool de threads de plataforma do Tomcat (ignorado com virtual threads). */
+    @Param({"200"})
+    public int tomcatMaxThreads;
+
+    @Param({"4096"})
+    public int accounts;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI endpoint;
+    private String authorization;
+    private UUID[] accountIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(NexusCoreLedgerApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:bench_" + UUID.randomUUID(),
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.orm.jdbc.batch=OFF",
+                        "--api.ledger.optimistic-retry.max-attempts=50",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.tomcat.threads.max=" + tomcatMaxThreads);
+
+        AccountRepository accountRepository = context.getBean(AccountRepository.class);
+        accountIds = new UUID[accounts];
+        for (int i = 0; i < accounts; i++) {
+            Account account = new Account();
+            account.setName("Conta Carga " + i);
+            account.setAccountType(AccountType.ASSET);
+            account.setBalance(Money.of(BigDecimal.ZERO));
+            accountIds[i] = accountRepository.save(account).getId();
+        }
+
+        User user = context.getBean(UserRepository.class).save(new User("carga@nexus.com", "senha"));
+        authorization = "Bearer " + context.getBean(TokenService.class).generateToken(user);
+
+        String port = context.getEnvironment().getProperty("local.server.port");
+        endpoint = URI.create("http://localhost:" + port + "/v1/transactions");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int createTransaction() throws Exception {
+        UUID accountId = accountIds[ThreadLocalRandom.current().nextInt(accountIds.length)];
+        String body = "{\"accountId\":\"" + accountId + "\",\"amount\":10.00,\"type\":\"CREDIT\",\"description\":\"carga\"}";
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .header("Content-Type", "application/json")
+                .header("Authorization", authorization)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 201) {
+            throw new IllegalStateException("Status inesperado: " + status);
+        }
+        return status;
+    }
+}
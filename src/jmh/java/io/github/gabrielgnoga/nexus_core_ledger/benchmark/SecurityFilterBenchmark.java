@@ -0,0 +1,85 @@
+package io.github.gabrielgnoga.nexus_core_ledger.benchmark;
+
+import io.github.gabrielgnoga.nexus_core_ledger.NexusCoreLedgerApplication;
+import io.github.gabrielgnoga.nexus_core_ledger.config.SecurityFilter;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.User;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.UserRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.service.TokenService;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o custo por requisição do {@link SecurityFilter}, com token válido e inválido,
+ * com o cache de usuários desativado ({@code ttl-seconds=0}, uma consulta ao banco por
+ * requisição) e ativado.
+ *
+ * <p>Execução: {@code mvn -Pjmh test-compile exec:exec -Djmh.args="SecurityFilterBenchmark"}</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecurityFilterBenchmark {
+
+    private static final FilterChain NO_OP = (request, response) -> { };
+
+    @Param({"0", "300"})
+    public long principalCacheTtlSeconds;
+
+    private ConfigurableApplicationContext context;
+    private SecurityFilter securityFilter;
+    private String validToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(NexusCoreLedgerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:bench_" + UUID.randomUUID(),
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--api.security.principal-cache.ttl-seconds=" + principalCacheTtlSeconds);
+
+        User user = context.getBean(UserRepository.class).save(new User("benchmark@nexus.com", "senha"));
+        validToken = context.getBean(TokenService.class).generateToken(user);
+        securityFilter = context.getBean(SecurityFilter.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object validToken() throws Exception {
+        return filter(validToken);
+    }
+
+    @Benchmark
+    public Object invalidToken() throws Exception {
+        return filter("nao-e-um-jwt");
+    }
+
+    private Object filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/test");
+        request.addHeader("Authorization", "Bearer " + token);
+        securityFilter.doFilter(request, new MockHttpServletResponse(), NO_OP);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
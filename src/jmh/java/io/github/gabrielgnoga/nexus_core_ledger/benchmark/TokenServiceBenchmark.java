@@ -0,0 +1,58 @@
+package io.github.gabrielgnoga.nexus_core_ledger.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.User;
+import io.github.gabrielgnoga.nexus_core_ledger.service.TokenService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o custo de {@link TokenService#validateToken} com e sem o cache de tokens
+ * verificados, e com a verificação antiga, que recriava o algoritmo e o verificador a cada chamada.
+ *
+ * <p>Execução: {@code mvn -Pjmh test-compile exec:exec -Djmh.args="TokenServiceBenchmark"}</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret";
+
+    /** 0 desativa o cache de tokens verificados (apenas o verificador é reaproveitado). */
+    @Param({"0", "10000"})
+    public long cacheMaxSize;
+
+    private TokenService tokenService;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tokenService = new TokenService(SECRET, cacheMaxSize);
+        token = tokenService.generateToken(new User("benchmark@nexus.com", "senha"));
+    }
+
+    @Benchmark
+    public String validateToken() {
+        return tokenService.validateToken(token);
+    }
+
+    /** Verificação como era feita antes: algoritmo e verificador novos a cada requisição. */
+    @Benchmark
+    public String rebuildVerifierPerCall() {
+        Algorithm algorithm = Algorithm.HMAC256(SECRET);
+        return JWT.require(algorithm)
+                .withIssuer("nexus-core-ledger-api")
+                .build()
+                .verify(token)
+                .getSubject();
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.gabrielgnoga.nexus_core_ledger.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Separa leituras e gravações entre o banco primário e uma réplica de leitura.
+ *
+ * <p>Ativada por {@code api.ledger.read-replica.enabled=true}. O primário continua
+ * configurado por {@code spring.datasource.*}; a réplica, por
+ * {@code api.ledger.read-replica.url/username/password}. Cada banco tem o seu pool e o
+ * {@code DataSource} principal da aplicação passa a ser o roteador
+ * ({@link ReplicaRoutingDataSource}).</p>
+ *
+ * <p>O roteamento é decidido na obtenção da conexão. Por isso a sessão do Hibernate devolve
+ * a conexão ao fim de cada transação, em vez de mantê-la até o fim da requisição, e o
+ * open-in-view passa a ser desligado por padrão ({@link ReadReplicaEnvironmentPostProcessor}):
+ * uma gravação feita depois de uma leitura na mesma requisição não pode herdar a conexão da
+ * réplica.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "api.ledger.read-replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(@Value("${api.ledger.read-replica.url}") String url,
+                                              @Value("${api.ledger.read-replica.username:}") String username,
+                                              @Value("${api.ledger.read-replica.password:}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${api.ledger.read-replica.max-staleness-ms:1000}") long maxStalenessMillis) {
+        return new ReplicaLagMonitor(primary, replica, Duration.ofMillis(maxStalenessMillis));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor monitor) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(monitor);
+        routing.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.Target.PRIMARY, primary,
+                ReplicaRoutingDataSource.Target.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.gabrielgnoga.nexus_core_ledger.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Desliga o open-in-view quando a réplica de leitura está ativa.
+ *
+ * <p>Com o open-in-view a sessão do Hibernate dura a requisição inteira, e uma leitura
+ * feita no início dela poderia decidir a conexão das gravações seguintes (ver
+ * {@link ReadReplicaConfig}). É só um padrão: {@code spring.jpa.open-in-view} definido
+ * explicitamente continua valendo.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+public class ReadReplicaEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    private static final String SOURCE_NAME = "readReplicaDefaults";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (environment.getProperty("api.ledger.read-replica.enabled", Boolean.class, false)) {
+            environment.getPropertySources().addLast(new MapPropertySource(SOURCE_NAME,
+                    Map.of("spring.jpa.open-in-view", "false")));
+        }
+    }
+}
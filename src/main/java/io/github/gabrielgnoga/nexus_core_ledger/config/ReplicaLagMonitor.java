@@ -0,0 +1,145 @@
+package io.github.gabrielgnoga.nexus_core_ledger.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acompanha o atraso da réplica de leitura e decide se uma leitura pode ser servida por ela.
+ *
+ * <p>A cada {@code heartbeat-interval-ms} grava o instante atual na tabela
+ * {@code replication_heartbeat} do primário e lê a mesma linha na réplica. O valor lido
+ * na réplica é o instante até o qual ela já aplicou o primário. Uma leitura vai para a
+ * réplica apenas se:</p>
+ * <ul>
+ * <li>a réplica respondeu ao último batimento e o seu atraso não passa de {@code max-staleness-ms}
+ * (que deve ser maior que o intervalo dos batimentos);</li>
+ * <li>o cliente da requisição (usuário autenticado) não gravou nada depois do último batimento
+ * aplicado na réplica (read-your-writes). Caso contrário, a leitura vai para o primário.</li>
+ * </ul>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+
+    private static final String ANONYMOUS = "anonymous";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxStalenessMillis;
+    private final Cache<String, Long> lastWrites;
+
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+
+    /**
+     * Instante (epoch millis) até o qual a réplica está atualizada, ou -1 se indisponível.
+     */
+    private volatile long replicaAppliedThrough = -1;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxStaleness) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxStalenessMillis = maxStaleness.toMillis();
+        // Depois de max-staleness a réplica já alcançou a gravação, ou deixou de ser usada.
+        this.lastWrites = Caffeine.newBuilder()
+                .expireAfterWrite(maxStaleness)
+                .build();
+    }
+
+    /**
+     * Grava um batimento no primário e lê o último batimento aplicado na réplica.
+     */
+    @Scheduled(fixedDelayString = "${api.ledger.read-replica.heartbeat-interval-ms:250}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            if (primary.update("UPDATE replication_heartbeat SET beat_at_millis = ? WHERE id = 1", now) == 0) {
+                primary.update("INSERT INTO replication_heartbeat (id, beat_at_millis) VALUES (1, ?)", now);
+            }
+        } catch (DuplicateKeyException e) {
+            // Outra instância criou a linha ao mesmo tempo; o próximo batimento a atualiza.
+        } catch (DataAccessException e) {
+            log.warn("Falha ao gravar o batimento de replicação no primário: {}", e.getMessage());
+        }
+
+        try {
+            Long seen = replica.query("SELECT beat_at_millis FROM replication_heartbeat WHERE id = 1",
+                    rs -> rs.next() ? rs.getLong(1) : null);
+            replicaAppliedThrough = seen == null ? -1 : seen;
+        } catch (DataAccessException e) {
+            replicaAppliedThrough = -1;
+            log.debug("Réplica de leitura indisponível; leituras vão para o primário", e);
+        }
+    }
+
+    /**
+     * Indica se a leitura da requisição atual pode ser servida pela réplica.
+     */
+    boolean replicaCanServe() {
+        long appliedThrough = replicaAppliedThrough;
+        boolean fresh = appliedThrough >= 0
+                && System.currentTimeMillis() - appliedThrough <= maxStalenessMillis;
+        Long lastWrite = fresh ? lastWrites.getIfPresent(currentClient()) : null;
+        boolean serve = fresh && (lastWrite == null || lastWrite < appliedThrough);
+        (serve ? replicaReads : primaryReads).increment();
+        return serve;
+    }
+
+    /**
+     * Registra, no commit da transação atual, que o cliente da requisição acabou de gravar.
+     */
+    void trackWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String client = currentClient();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWrites.put(client, System.currentTimeMillis());
+            }
+        });
+    }
+
+    private static String currentClient() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? ANONYMOUS : authentication.getName();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("ledger.read_replica.reads", replicaReads, LongAdder::sum)
+                .tag("target", "replica")
+                .description("Transações somente leitura servidas pela réplica")
+                .register(registry);
+        FunctionCounter.builder("ledger.read_replica.reads", primaryReads, LongAdder::sum)
+                .tag("target", "primary")
+                .description("Transações somente leitura desviadas para o primário (atraso ou read-your-writes)")
+                .register(registry);
+        Gauge.builder("ledger.read_replica.lag", this,
+                        m -> m.replicaAppliedThrough < 0 ? Double.NaN
+                                : (System.currentTimeMillis() - m.replicaAppliedThrough) / 1000.0)
+                .baseUnit("seconds")
+                .description("Atraso da réplica de leitura medido pelo último batimento")
+                .register(registry);
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.gabrielgnoga.nexus_core_ledger.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Encaminha cada conexão ao primário ou à réplica de leitura.
+ *
+ * <p>Transações {@code @Transactional(readOnly = true)} vão para a réplica quando
+ * {@link ReplicaLagMonitor} permite; todo o resto (gravações e acessos fora de transação)
+ * vai para o primário. Deve ficar atrás de um
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, para que a
+ * conexão só seja escolhida depois que a transação já marcou se é somente leitura.</p>
+ *
+ * <p>Leituras que alimentam caches sem expiração usam {@link #onPrimary(Supplier)}: uma
+ * réplica dentro do atraso permitido ainda pode estar atrás de um commit já confirmado.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor monitor;
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    /**
+     * Executa a ação com as transações somente leitura encaminhadas ao primário, sem contá-las
+     * como gravação. Vale para conexões obtidas dentro da ação; uma transação já iniciada fora
+     * dela mantém a sua conexão.
+     *
+     * @param action A leitura a executar.
+     * @return O resultado da ação.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_ONLY.remove();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive() || PRIMARY_ONLY.get() != null) {
+            return Target.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            monitor.trackWrite();
+            return Target.PRIMARY;
+        }
+        return monitor.replicaCanServe() ? Target.REPLICA : Target.PRIMARY;
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.gabrielgnoga.nexus_core_ledger.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas ({@code @Scheduled}) do ledger,
+ * como o checkpoint diário de saldos.
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
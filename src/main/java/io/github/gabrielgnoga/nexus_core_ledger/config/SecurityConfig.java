@@ -44,6 +44,11 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/v1/auth/login").permitAll()
 
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                        // Só o health é público; as métricas (prometheus) exigem autenticação.
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+
+                        // Auditorias do ledger leem todos os lançamentos: só administradores.
+                        .requestMatchers("/v1/diagnostics/ledger-audit", "/v1/diagnostics/ledger-audit/**").hasRole("ADMIN")
 
                         .anyRequest().authenticated()
                 )
@@ -1,7 +1,8 @@
 package io.github.gabrielgnoga.nexus_core_ledger.config;
 
-import io.github.gabrielgnoga.nexus_core_ledger.repository.UserRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.service.LedgerMetrics;
 import io.github.gabrielgnoga.nexus_core_ledger.service.TokenService;
+import io.github.gabrielgnoga.nexus_core_ledger.service.UserPrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,6 +18,9 @@ import java.io.IOException;
 
 /**
  * Filtro que intercepta todas as requisições para validar o Token JWT.
+ *
+ * <p>O usuário dono do token é obtido do {@link UserPrincipalCache}, e não do banco
+ * a cada requisição.</p>
  * * @author Gabriel Gnoga
  * @since 1.0.0
  */
@@ -27,20 +31,26 @@ public class SecurityFilter extends OncePerRequestFilter {
     private TokenService tokenService;
 
     @Autowired
-    private UserRepository userRepository;
+    private UserPrincipalCache principalCache;
+
+    @Autowired
+    private LedgerMetrics metrics;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         var token = this.recoverToken(request);
 
         if (token != null) {
-            var login = tokenService.validateToken(token);
+            var login = metrics.timeJwtValidation(() -> tokenService.validateToken(token));
 
-            UserDetails user = userRepository.findByLogin(login);
+            // Token inválido ou vencido: segue sem autenticação e sem consultar o banco.
+            if (!login.isEmpty()) {
+                UserDetails user = principalCache.get(login);
 
-            if (user != null) {
-                var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                if (user != null) {
+                    var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         }
 
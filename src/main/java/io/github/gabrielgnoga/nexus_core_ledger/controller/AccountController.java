@@ -1,15 +1,20 @@
 package io.github.gabrielgnoga.nexus_core_ledger.controller;
 
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.AccountPageDTO;
 import io.github.gabrielgnoga.nexus_core_ledger.dto.AccountResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.BalanceAsOfDTO;
 import io.github.gabrielgnoga.nexus_core_ledger.dto.CreateAccountDTO;
 import io.github.gabrielgnoga.nexus_core_ledger.service.AccountService;
+import io.github.gabrielgnoga.nexus_core_ledger.service.BalanceCheckpointService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -29,6 +34,7 @@ import java.util.UUID;
 public class AccountController {
 
     private final AccountService accountService;
+    private final BalanceCheckpointService balanceCheckpointService;
 
     /**
      * Endpoint para criação de uma nova conta.
@@ -45,15 +51,23 @@ public class AccountController {
     }
 
     /**
-     * Endpoint para listar todas as contas.
+     * Endpoint para listar as contas, paginado por cursor.
      *
-     * <p>Retorna uma lista de DTOs com todos os registros encontrados no banco.</p>
+     * <p>Exemplo de chamada: GET /api/accounts?accountType=ASSET&amp;currency=BRL&amp;limit=100.
+     * Para a próxima página, repita a chamada com {@code cursor} igual ao {@code nextCursor} recebido.</p>
      *
-     * @return ResponseEntity contendo a lista de contas e status HTTP 200 (OK).
+     * @param accountType Filtro opcional por tipo de conta.
+     * @param currency Filtro opcional por moeda.
+     * @param cursor Cursor opaco da página anterior (ausente na primeira página).
+     * @param limit Tamanho da página.
+     * @return ResponseEntity contendo a página de contas e status HTTP 200 (OK).
      */
     @GetMapping
-    public ResponseEntity<List<AccountResponseDTO>> listAll() {
-        List<AccountResponseDTO> accounts = accountService.listAllAccounts();
+    public ResponseEntity<AccountPageDTO> listAll(@RequestParam(required = false) AccountType accountType,
+                                                  @RequestParam(required = false) String currency,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Integer limit) {
+        AccountPageDTO accounts = accountService.listAccounts(accountType, currency, cursor, limit);
         return ResponseEntity.ok(accounts);
     }
 
@@ -75,6 +89,21 @@ public class AccountController {
         return ResponseEntity.ok(account);
     }
 
+    /**
+     * Endpoint para consultar o saldo de uma conta em uma data passada.
+     *
+     * <p>Exemplo de chamada: GET /api/accounts/a1b2-c3d4-.../balance?asOf=2026-01-31T23:59:59</p>
+     *
+     * @param id O UUID passado na URL.
+     * @param asOf A data de referência (ISO-8601).
+     * @return 200 (OK) com o saldo na data e o checkpoint usado no cálculo.
+     */
+    @GetMapping("/{id}/balance")
+    public ResponseEntity<BalanceAsOfDTO> getBalanceAsOf(@PathVariable UUID id,
+                                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        return ResponseEntity.ok(balanceCheckpointService.balanceAsOf(id, asOf));
+    }
+
     /**
      * Endpoint para deletar uma conta.
      *
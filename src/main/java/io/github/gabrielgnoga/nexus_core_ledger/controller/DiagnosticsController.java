@@ -0,0 +1,85 @@
+package io.github.gabrielgnoga.nexus_core_ledger.controller;
+
+import io.github.gabrielgnoga.nexus_core_ledger.dto.LedgerAuditDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.LedgerAuditJobDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.PinningStatsDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.service.LedgerAuditRunner;
+import io.github.gabrielgnoga.nexus_core_ledger.service.LedgerIntegrityVerifier;
+import io.github.gabrielgnoga.nexus_core_ledger.service.VirtualThreadPinningMonitor;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * Controlador REST com diagnósticos de execução da API.
+ *
+ * <p>As auditorias do ledger exigem o perfil ADMIN (ver {@code SecurityConfig}).</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@RestController
+@RequestMapping("/v1/diagnostics")
+@RequiredArgsConstructor
+@Tag(name = "Diagnósticos", description = "Informações de execução para análise de desempenho")
+public class DiagnosticsController {
+
+    private final VirtualThreadPinningMonitor pinningMonitor;
+    private final LedgerIntegrityVerifier integrityVerifier;
+    private final LedgerAuditRunner auditRunner;
+
+    /**
+     * Expõe os eventos de pinning de virtual threads detectados desde a inicialização.
+     *
+     * @return ResponseEntity contendo o diagnóstico e o status HTTP 200 (OK).
+     */
+    @Operation(summary = "Pinning de virtual threads", description = "Retorna quantas vezes virtual threads ficaram presas à carrier thread e os locais de origem mais frequentes.")
+    @GetMapping("/pinning")
+    public ResponseEntity<PinningStatsDTO> getPinningStats() {
+        return ResponseEntity.ok(pinningMonitor.stats());
+    }
+
+    /**
+     * Inicia, em segundo plano, a verificação das cadeias de hashes de todos os lançamentos.
+     *
+     * @return ResponseEntity contendo a execução (nova ou já em andamento) e o status HTTP 202 (Accepted).
+     */
+    @Operation(summary = "Auditoria de integridade do ledger", description = "Inicia em segundo plano o recálculo, em paralelo, da cadeia de hashes de todas as contas. Só uma execução roda por vez: enquanto ela não termina, novas solicitações devolvem a mesma execução. Exige perfil ADMIN.")
+    @PostMapping("/ledger-audit")
+    public ResponseEntity<LedgerAuditJobDTO> auditLedger() {
+        return ResponseEntity.accepted().body(auditRunner.start());
+    }
+
+    /**
+     * Consulta a auditoria completa em andamento ou a última terminada.
+     *
+     * @return ResponseEntity contendo a execução e o status HTTP 200 (OK), ou 404 se nenhuma foi iniciada.
+     */
+    @Operation(summary = "Situação da auditoria do ledger", description = "Retorna a auditoria em andamento ou a última terminada, com o resultado. Exige perfil ADMIN.")
+    @GetMapping("/ledger-audit")
+    public ResponseEntity<LedgerAuditJobDTO> getLedgerAudit() {
+        return auditRunner.last()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Verifica a cadeia de hashes dos lançamentos de uma conta.
+     *
+     * @param accountId O ID da conta.
+     * @return ResponseEntity contendo o resultado da auditoria e o status HTTP 200 (OK).
+     */
+    @Operation(summary = "Auditoria de integridade de uma conta", description = "Recalcula a cadeia de hashes dos lançamentos da conta informada.")
+    @GetMapping("/ledger-audit/accounts/{accountId}")
+    public ResponseEntity<LedgerAuditDTO> auditAccount(@PathVariable UUID accountId) {
+        return ResponseEntity.ok(integrityVerifier.verifyAccount(accountId));
+    }
+}
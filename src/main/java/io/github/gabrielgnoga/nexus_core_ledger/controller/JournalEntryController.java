@@ -0,0 +1,50 @@
+package io.github.gabrielgnoga.nexus_core_ledger.controller;
+
+import io.github.gabrielgnoga.nexus_core_ledger.dto.JournalEntryRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.JournalEntryResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.service.JournalEntryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST dos lançamentos contábeis com várias pernas.
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@RestController
+@RequestMapping("/v1/journal-entries")
+@RequiredArgsConstructor
+@Tag(name = "Lançamentos Contábeis", description = "Lançamentos em partida dobrada envolvendo várias contas")
+public class JournalEntryController {
+
+    private final JournalEntryService journalEntryService;
+
+    /**
+     * Grava um lançamento balanceado (ex: transferência entre duas contas) de forma atômica.
+     *
+     * @param data DTO com a descrição e as pernas do lançamento.
+     * @return ResponseEntity com o lançamento gravado e status HTTP 201.
+     */
+    @Operation(summary = "Criar lançamento contábil", description = "Movimenta várias contas em uma única transação. O total de débitos deve ser igual ao total de créditos.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Lançamento gravado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Lançamento desbalanceado ou inválido"),
+            @ApiResponse(responseCode = "404", description = "Conta não encontrada"),
+            @ApiResponse(responseCode = "422", description = "Saldo insuficiente em alguma perna de débito")
+    })
+    @PostMapping
+    public ResponseEntity<JournalEntryResponseDTO> create(@RequestBody @Valid JournalEntryRequestDTO data) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(journalEntryService.create(data));
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.gabrielgnoga.nexus_core_ledger.controller;
+
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TrialBalanceDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.service.BalanceRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST para relatórios contábeis consolidados.
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@RestController
+@RequestMapping("/v1/reports")
+@RequiredArgsConstructor
+@Tag(name = "Relatórios", description = "Relatórios consolidados do ledger")
+public class ReportController {
+
+    private final BalanceRollupService balanceRollupService;
+
+    /**
+     * Gera o balancete por tipo de conta e moeda.
+     *
+     * @param currency Filtro opcional por moeda (ex.: "BRL").
+     * @return ResponseEntity contendo o balancete e o status HTTP 200 (OK).
+     */
+    @Operation(summary = "Balancete", description = "Retorna o saldo total e a quantidade de contas por tipo (ASSET, LIABILITY, EQUITY, REVENUE, EXPENSE) e moeda, a partir dos totalizadores mantidos a cada lançamento.")
+    @GetMapping("/trial-balance")
+    public ResponseEntity<TrialBalanceDTO> getTrialBalance(@RequestParam(required = false) String currency) {
+        return ResponseEntity.ok(balanceRollupService.trialBalance(currency));
+    }
+}
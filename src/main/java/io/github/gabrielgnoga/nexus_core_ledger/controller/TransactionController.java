@@ -1,7 +1,13 @@
 package io.github.gabrielgnoga.nexus_core_ledger.controller;
 
+import io.github.gabrielgnoga.nexus_core_ledger.dto.BatchMode;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.BatchTransactionResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.ContentionStatsDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.StatementPageDTO;
 import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
 import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.service.BatchTransactionService;
+import io.github.gabrielgnoga.nexus_core_ledger.service.StatementExportService;
 import io.github.gabrielgnoga.nexus_core_ledger.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,8 +16,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -31,7 +39,12 @@ import java.util.UUID;
 @Tag(name = "Transações", description = "Endpoints para criar e consultar movimentações financeiras")
 public class TransactionController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final TransactionService transactionService;
+    private final BatchTransactionService batchTransactionService;
+    private final StatementExportService statementExportService;
 
     /**
      * Cria uma nova transação (Crédito ou Débito).
@@ -39,40 +52,111 @@ public class TransactionController {
      * <p>Este método recebe uma solicitação, valida os campos obrigatórios,
      * verifica regras de saldo e retorna o status adequado.</p>
      *
+     * <p>Com o cabeçalho {@code Idempotency-Key}, repetições da mesma requisição
+     * devolvem a transação original em vez de lançar outra.</p>
+     *
      * @param data DTO contendo os dados da transação (valor, tipo, conta).
+     * @param idempotencyKey Chave de idempotência opcional, gerada pelo cliente.
      * @return ResponseEntity contendo o DTO de resposta e o status HTTP 201.
      */
     @Operation(summary = "Criar nova transação", description = "Registra um crédito ou débito em uma conta existente e atualiza o saldo automaticamente.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Transação realizada com sucesso"),
-            @ApiResponse(responseCode = "400", description = "Erro de validação (ex: valor negativo, JSON inválido)"),
+            @ApiResponse(responseCode = "400", description = "Erro de validação (ex: valor negativo, JSON inválido, Idempotency-Key reutilizada ou usada com o motor de lançamentos ativo)"),
             @ApiResponse(responseCode = "404", description = "Conta não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Conflito de concorrência persistente na conta"),
             @ApiResponse(responseCode = "422", description = "Saldo insuficiente para operação de débito")
     })
     @PostMapping
-    public ResponseEntity<TransactionResponseDTO> create(@RequestBody @Valid TransactionRequestDTO data) {
-        var response = transactionService.create(data);
+    public ResponseEntity<TransactionResponseDTO> create(@RequestBody @Valid TransactionRequestDTO data,
+                                                         @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        var response = transactionService.create(data, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     /**
-     * Recupera o extrato bancário de uma conta específica.
+     * Cria várias transações em uma única chamada (lote).
      *
-     * <p>Busca todo o histórico de transações (créditos e débitos) vinculados
-     * ao ID da conta informado. A lista é retornada em ordem cronológica inversa
-     * (da transação mais recente para a mais antiga).</p>
+     * <p>Todos os itens são aplicados em uma única transação de banco e o resultado
+     * de cada item é devolvido na mesma ordem do envio. O modo de falha pode ser
+     * informado por requisição; se omitido, vale o padrão configurado.</p>
+     *
+     * @param items Lista de DTOs de transação.
+     * @param mode Modo de falha do lote (ALL_OR_NOTHING ou PARTIAL).
+     * @return 201 se o lote foi gravado, ou 422 se foi desfeito, com o resultado de cada item.
+     */
+    @Operation(summary = "Criar transações em lote", description = "Aplica uma lista de créditos e débitos em uma única transação de banco, com resultado por item.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Lote gravado (no modo PARTIAL pode conter itens rejeitados)"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio, acima do limite ou modo não suportado"),
+            @ApiResponse(responseCode = "409", description = "Conflito de concorrência persistente nas contas do lote"),
+            @ApiResponse(responseCode = "422", description = "Lote desfeito por item rejeitado (modo ALL_OR_NOTHING)")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchTransactionResponseDTO> createBatch(@RequestBody List<TransactionRequestDTO> items,
+                                                                   @RequestParam(required = false) BatchMode mode) {
+        var response = batchTransactionService.createBatch(items, mode);
+        var status = response.committed() ? HttpStatus.CREATED : HttpStatus.UNPROCESSABLE_ENTITY;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    /**
+     * Recupera o extrato bancário de uma conta específica, paginado por cursor.
+     *
+     * <p>Busca o histórico de transações (créditos e débitos) vinculados ao ID da conta
+     * informado, em ordem cronológica inversa (da transação mais recente para a mais antiga).
+     * Para ler a próxima página, envie o {@code nextCursor} recebido no parâmetro {@code cursor}.</p>
      *
      * @param accountId O identificador único (UUID) da conta bancária.
-     * @return ResponseEntity contendo a lista de transações (DTOs) e o status HTTP 200 (OK).
+     * @param cursor Cursor da página anterior (opcional).
+     * @param limit Tamanho da página (opcional, limitado ao máximo configurado).
+     * @return ResponseEntity contendo a página de transações e o status HTTP 200 (OK).
      */
-    @Operation(summary = "Obter extrato da conta", description = "Retorna o histórico completo de transações de uma conta, ordenado da mais recente para a mais antiga.")
+    @Operation(summary = "Obter extrato da conta", description = "Retorna o histórico de transações de uma conta paginado por cursor, ordenado da mais recente para a mais antiga.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Extrato recuperado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido"),
             @ApiResponse(responseCode = "404", description = "Conta não encontrada")
     })
     @GetMapping("/account/{accountId}")
-    public ResponseEntity<List<TransactionResponseDTO>> getStatement(@PathVariable UUID accountId) {
-        var response = transactionService.getStatement(accountId);
+    public ResponseEntity<StatementPageDTO> getStatement(@PathVariable UUID accountId,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer limit) {
+        var response = transactionService.getStatement(accountId, cursor, limit);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Exporta o extrato completo de uma conta em NDJSON (uma transação JSON por linha).
+     *
+     * <p>A resposta é escrita em streaming conforme as linhas chegam do banco, sem montar
+     * a lista em memória. Indicado para auditorias de contas com histórico muito grande.</p>
+     *
+     * @param accountId O identificador único (UUID) da conta bancária.
+     * @return ResponseEntity com o corpo em streaming e o status HTTP 200 (OK).
+     */
+    @Operation(summary = "Exportar extrato completo (NDJSON)", description = "Transmite todo o histórico da conta, da transação mais recente para a mais antiga, uma transação por linha.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação iniciada"),
+            @ApiResponse(responseCode = "404", description = "Conta não encontrada")
+    })
+    @GetMapping(value = "/account/{accountId}/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportStatement(@PathVariable UUID accountId) {
+        statementExportService.requireAccount(accountId);
+        StreamingResponseBody body = output -> statementExportService.export(accountId, output);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
+    /**
+     * Expõe os contadores de concorrência otimista dos lançamentos.
+     *
+     * <p>Permite acompanhar a disputa entre lançamentos simultâneos na mesma conta.</p>
+     *
+     * @return ResponseEntity contendo os contadores e o status HTTP 200 (OK).
+     */
+    @Operation(summary = "Contadores de contenção", description = "Retorna o total de conflitos de versão, retentativas e lançamentos que esgotaram as tentativas.")
+    @GetMapping("/stats/contention")
+    public ResponseEntity<ContentionStatsDTO> getContentionStats() {
+        return ResponseEntity.ok(transactionService.getContentionStats());
+    }
 }
\ No newline at end of file
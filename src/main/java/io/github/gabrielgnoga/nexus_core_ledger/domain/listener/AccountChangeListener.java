@@ -0,0 +1,67 @@
+package io.github.gabrielgnoga.nexus_core_ledger.domain.listener;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.AccountResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.mapper.AccountMapper;
+import io.github.gabrielgnoga.nexus_core_ledger.service.AccountCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Listener JPA que mantém o {@link AccountCache} sempre que uma {@link Account} é criada,
+ * alterada (inclusive saldo) ou removida.
+ *
+ * <p>O estado da conta é copiado no flush e gravado no cache apenas após o commit; se a
+ * transação for desfeita, o cache continua com o valor anterior, que ainda é o do banco.</p>
+ *
+ * <p>O cache é obtido de forma tardia porque o Hibernate cria este listener durante a
+ * inicialização do {@code EntityManagerFactory}, do qual o próprio cache depende.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Component
+public class AccountChangeListener {
+
+    private final ObjectProvider<AccountCache> accountCache;
+    private final AccountMapper accountMapper;
+
+    public AccountChangeListener(ObjectProvider<AccountCache> accountCache, AccountMapper accountMapper) {
+        this.accountCache = accountCache;
+        this.accountMapper = accountMapper;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Account account) {
+        AccountResponseDTO snapshot = accountMapper.toDTO(account);
+        afterCommit(() -> accountCache.getObject().put(snapshot));
+    }
+
+    @PostRemove
+    public void onRemove(Account account) {
+        UUID id = account.getId();
+        afterCommit(() -> accountCache.getObject().invalidate(List.of(id)));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
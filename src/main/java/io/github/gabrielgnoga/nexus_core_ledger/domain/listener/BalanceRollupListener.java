@@ -0,0 +1,73 @@
+package io.github.gabrielgnoga.nexus_core_ledger.domain.listener;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.service.BalanceRollupService;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener JPA que leva aos totalizadores por tipo e moeda ({@link BalanceRollupService})
+ * toda variação de saldo, tipo ou moeda de uma {@link Account} feita pelo caminho JPA.
+ *
+ * <p>A conta guarda o estado lido do banco ({@link Account#getPersistedSnapshot()}); a cada
+ * flush, a diferença para o estado gravado é acumulada na transação corrente e aplicada
+ * de uma só vez antes do commit. A transação é registrada já na leitura (ou no
+ * {@code persist}/{@code remove}), pois o último flush acontece dentro do próprio commit.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Slf4j
+@Component
+public class BalanceRollupListener {
+
+    private final ObjectProvider<BalanceRollupService> rollups;
+
+    public BalanceRollupListener(ObjectProvider<BalanceRollupService> rollups) {
+        this.rollups = rollups;
+    }
+
+    @PostLoad
+    public void onLoad(Account account) {
+        account.setPersistedSnapshot(account.snapshot());
+        rollups.getObject().track();
+    }
+
+    @PrePersist
+    @PreRemove
+    public void onWriting(Account account) {
+        rollups.getObject().track();
+    }
+
+    @PostPersist
+    public void onCreated(Account account) {
+        Account.Snapshot created = account.snapshot();
+        rollups.getObject().record(account.getId(), null, created);
+        account.setPersistedSnapshot(created);
+    }
+
+    @PostUpdate
+    public void onUpdated(Account account) {
+        Account.Snapshot previous = account.getPersistedSnapshot();
+        Account.Snapshot current = account.snapshot();
+        if (previous == null) {
+            log.warn("Conta {} alterada sem estado anterior conhecido; totalizadores não atualizados", account.getId());
+            return;
+        }
+        rollups.getObject().record(account.getId(), previous, current);
+        account.setPersistedSnapshot(current);
+    }
+
+    @PostRemove
+    public void onRemoved(Account account) {
+        Account.Snapshot previous = account.getPersistedSnapshot();
+        rollups.getObject().record(account.getId(), previous != null ? previous : account.snapshot(), null);
+    }
+}
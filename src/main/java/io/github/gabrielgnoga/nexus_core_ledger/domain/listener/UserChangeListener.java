@@ -0,0 +1,68 @@
+package io.github.gabrielgnoga.nexus_core_ledger.domain.listener;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.User;
+import io.github.gabrielgnoga.nexus_core_ledger.service.UserPrincipalCache;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Listener JPA que invalida o {@link UserPrincipalCache} sempre que um {@link User} é
+ * criado, alterado ou removido. Quando o login muda, o login anterior também é invalidado.
+ *
+ * <p>A invalidação é feita no flush e repetida após o commit: uma requisição que recarregue
+ * o usuário entre os dois momentos ainda veria a versão antiga no banco.</p>
+ *
+ * <p>O cache é obtido de forma tardia porque o Hibernate cria este listener durante a
+ * inicialização do {@code EntityManagerFactory}, do qual o próprio cache depende.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Component
+public class UserChangeListener {
+
+    private final ObjectProvider<UserPrincipalCache> principalCache;
+
+    public UserChangeListener(ObjectProvider<UserPrincipalCache> principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostLoad
+    public void onLoad(User user) {
+        user.setPersistedLogin(user.getLogin());
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        String login = user.getLogin();
+        String previousLogin = user.getPersistedLogin();
+        user.setPersistedLogin(login);
+
+        UserPrincipalCache cache = principalCache.getObject();
+        invalidate(cache, login, previousLogin);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(cache, login, previousLogin);
+                }
+            });
+        }
+    }
+
+    private static void invalidate(UserPrincipalCache cache, String login, String previousLogin) {
+        cache.invalidate(login);
+        if (previousLogin != null && !previousLogin.equals(login)) {
+            cache.invalidate(previousLogin);
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package io.github.gabrielgnoga.nexus_core_ledger.domain.model;
 
+import io.github.gabrielgnoga.nexus_core_ledger.domain.listener.AccountChangeListener;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.listener.BalanceRollupListener;
 import jakarta.persistence.*;
 import lombok.*;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -14,8 +15,9 @@ import java.util.UUID;
  *
  * <p>Características Técnicas:</p>
  * <ul>
- * <li>Utiliza <code>UUID</code> como chave primária para segurança e escalabilidade.</li>
- * <li>Armazena valores monetários com precisão de 4 casas decimais (Scale 4) para evitar erros de arredondamento.</li>
+ * <li>Utiliza <code>UUID</code> como chave primária para segurança e escalabilidade (UUIDv7, ordenado pelo tempo).</li>
+ * <li>Armazena valores monetários com precisão de 4 casas decimais (Scale 4) para evitar erros de arredondamento; em memória, o saldo é um {@link Money} (ponto fixo em {@code long}).</li>
+ * <li>Usa controle de concorrência otimista ({@code @Version}) para impedir atualizações perdidas de saldo.</li>
  * </ul>
  *
  * @author Gabriel Gnoga
@@ -24,21 +26,26 @@ import java.util.UUID;
  */
 @Data
 @Entity
-@Table(name = "accounts")
+@Table(name = "accounts", indexes = {
+        // Cobre a listagem paginada filtrada: filtro por tipo/moeda + ordenação pelo ID.
+        @Index(name = "idx_accounts_type_currency_id", columnList = "account_type, currency, id"),
+        @Index(name = "idx_accounts_currency_id", columnList = "currency, id")
+})
+@EntityListeners({AccountChangeListener.class, BalanceRollupListener.class})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Account {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false)
     private String name;
 
     @Column(nullable = false, precision = 19, scale = 4)
-    private BigDecimal balance;
+    private Money balance;
 
     @Column(nullable = false)
     private String currency;
@@ -50,6 +57,46 @@ public class Account {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    /**
+     * Versão do registro, incrementada a cada atualização.
+     * Dois lançamentos concorrentes na mesma conta não podem gravar sobre a mesma versão.
+     */
+    @Version
+    private Long version;
+
+    /**
+     * Posição da última transação na cadeia de hashes da conta (ver {@link PostingChain}).
+     */
+    @Column(name = "chain_seq")
+    private Long chainSeq;
+
+    /**
+     * Hash da última transação na cadeia da conta.
+     */
+    @Column(name = "chain_hash", length = PostingChain.HASH_BYTES)
+    private byte[] chainHash;
+
+    /**
+     * Tipo, moeda e saldo como estão gravados no banco (atualizado a cada leitura e flush).
+     * A diferença para o estado atual é o que o {@link BalanceRollupListener} aplica nos totalizadores.
+     */
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Snapshot persistedSnapshot;
+
+    /**
+     * Posição da conta nos totalizadores por tipo e moeda.
+     */
+    public record Snapshot(AccountType accountType, String currency, Money balance) {}
+
+    /**
+     * Fotografia do estado atual da conta, para comparação com {@link #getPersistedSnapshot()}.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(accountType, currency, balance == null ? Money.ZERO : balance);
+    }
+
     /**
      * Callback de ciclo de vida do JPA executado automaticamente antes da persistência (INSERT).
      *
@@ -63,7 +110,7 @@ public class Account {
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
-        if (this.balance == null) this.balance = BigDecimal.ZERO;
+        if (this.balance == null) this.balance = Money.ZERO;
         if (this.currency == null) this.currency = "BRL"; // Garante um padrão
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package io.github.gabrielgnoga.nexus_core_ledger.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Fotografia (checkpoint) do saldo de uma conta em um instante.
+ *
+ * <p>O saldo registrado inclui todas as transações da conta com {@code timestamp <= asOf}.
+ * Para saber o saldo em uma data qualquer, basta partir do checkpoint mais próximo
+ * anterior a ela e reaplicar apenas as transações seguintes, em vez de somar todo o
+ * histórico da conta.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Data
+@Entity
+@Table(name = "balance_checkpoints",
+        uniqueConstraints = @UniqueConstraint(name = "uk_balance_checkpoints_account_as_of", columnNames = {"account_id", "as_of"}),
+        indexes = @Index(name = "idx_balance_checkpoints_account_as_of", columnList = "account_id, as_of DESC"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceCheckpoint {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    @Column(name = "as_of", nullable = false)
+    private LocalDateTime asOf;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private Money balance;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
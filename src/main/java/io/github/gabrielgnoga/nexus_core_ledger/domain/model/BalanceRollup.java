@@ -0,0 +1,58 @@
+package io.github.gabrielgnoga.nexus_core_ledger.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Totalizador de saldos por tipo de conta e moeda, mantido a cada lançamento.
+ *
+ * <p>Cada par (tipo, moeda) é dividido em {@code slot}s: as contas são distribuídas entre
+ * eles pelo hash do ID, para que lançamentos concorrentes em contas diferentes não
+ * disputem a mesma linha. O total do par é a soma dos seus slots.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Data
+@Entity
+@Table(name = "balance_rollups")
+@IdClass(BalanceRollup.SlotId.class)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceRollup {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false)
+    private AccountType accountType;
+
+    @Id
+    @Column(nullable = false)
+    private String currency;
+
+    @Id
+    @Column(nullable = false)
+    private int slot;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private Money balance;
+
+    @Column(nullable = false)
+    private long accounts;
+
+    /**
+     * Chave composta de um slot.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SlotId implements Serializable {
+        private AccountType accountType;
+        private String currency;
+        private int slot;
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.gabrielgnoga.nexus_core_ledger.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * Último elo da cadeia de hashes de uma conta que saiu da tabela {@code transactions} pela
+ * retenção de partições (ver {@link PostingChain}).
+ *
+ * <p>A verificação de integridade da conta parte deste elo, e não do início da cadeia: o
+ * primeiro lançamento mantido ainda é conferido contra o hash do anterior.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Data
+@Entity
+@Table(name = "chain_anchors")
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChainAnchor {
+
+    @Id
+    @Column(name = "account_id")
+    private UUID accountId;
+
+    @Column(name = "chain_seq", nullable = false)
+    private long chainSeq;
+
+    @Column(name = "chain_hash", nullable = false, length = PostingChain.HASH_BYTES)
+    @ToString.Exclude
+    private byte[] chainHash;
+}
@@ -0,0 +1,65 @@
+package io.github.gabrielgnoga.nexus_core_ledger.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Chave de idempotência de um lançamento, gravada junto com o resultado.
+ *
+ * <p>A linha guarda uma cópia completa da resposta original, de modo que uma
+ * requisição repetida com a mesma chave é respondida sem consultar a conta nem
+ * a tabela de transações. O {@code requestHash} impede o reuso da chave com
+ * outro conteúdo.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Data
+@Entity
+@Table(name = "idempotency_keys",
+        indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyKey {
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String key;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "transaction_id", nullable = false)
+    private UUID transactionId;
+
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    private String description;
+
+    @Column(name = "transaction_timestamp", nullable = false)
+    private LocalDateTime transactionTimestamp;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.gabrielgnoga.nexus_core_ledger.domain.model;
+
+import io.github.gabrielgnoga.nexus_core_ledger.exception.AmountOutOfRangeException;
+
+import java.math.BigDecimal;
+
+/**
+ * Valor monetário em ponto fixo: um {@code long} de unidades mínimas (1/10.000).
+ *
+ * <p>As colunas de valores são {@code numeric(19,4)}, mas nem todo valor da coluna cabe em
+ * um {@code long}: 19 dígitos chegam a quase 1e19 unidades mínimas, e {@link Long#MAX_VALUE}
+ * é cerca de 9,22e18 (≈ 922 trilhões com 4 casas). A garantia real vem de duas barreiras:
+ * os valores de entrada são limitados a {@code @Digits(integer = 15, fraction = 4)} nos DTOs,
+ * e um saldo que estoure o {@code long} lança {@link AmountOutOfRangeException}, devolvida ao
+ * cliente como 422 pelo {@code GlobalExceptionHandler}. Somar, subtrair e comparar saldos
+ * vira aritmética de inteiros, sem os {@link BigDecimal} (e seus {@code BigInteger} internos)
+ * que cada lançamento alocava.</p>
+ *
+ * <p>Imutável. Toda operação é verificada: um estouro de {@code long} lança
+ * {@link AmountOutOfRangeException} em vez de dar a volta silenciosamente, e a conversão a
+ * partir de {@link BigDecimal} rejeita valores com mais de 4 casas em vez de arredondar.</p>
+ *
+ * @param minorUnits O valor multiplicado por 10.000 (ex.: {@code 150.50} = {@code 1_505_000}).
+ * @author Gabriel Gnoga
+ * @see MoneyConverter
+ * @since 1.1.0
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    /** Casas decimais representadas, iguais à escala das colunas. */
+    public static final int SCALE = 4;
+
+    public static final Money ZERO = new Money(0);
+
+    /**
+     * Converte um {@link BigDecimal} sem perda.
+     *
+     * @param amount O valor decimal.
+     * @return O valor em unidades mínimas.
+     * @throws AmountOutOfRangeException Se o valor tiver mais de 4 casas decimais ou não couber em um {@code long}.
+     */
+    public static Money of(BigDecimal amount) {
+        try {
+            return new Money(amount.movePointRight(SCALE).longValueExact());
+        } catch (ArithmeticException e) {
+            throw outOfRange(amount.toPlainString());
+        }
+    }
+
+    /**
+     * Soma dois valores.
+     *
+     * @throws AmountOutOfRangeException Se o resultado estourar.
+     */
+    public Money plus(Money other) {
+        try {
+            return new Money(Math.addExact(minorUnits, other.minorUnits));
+        } catch (ArithmeticException e) {
+            throw outOfRange(this + " + " + other);
+        }
+    }
+
+    /**
+     * Subtrai um valor deste.
+     *
+     * @throws AmountOutOfRangeException Se o resultado estourar.
+     */
+    public Money minus(Money other) {
+        try {
+            return new Money(Math.subtractExact(minorUnits, other.minorUnits));
+        } catch (ArithmeticException e) {
+            throw outOfRange(this + " - " + other);
+        }
+    }
+
+    /**
+     * Inverte o sinal.
+     *
+     * @throws AmountOutOfRangeException Se o valor for {@code Long.MIN_VALUE}.
+     */
+    public Money negate() {
+        if (minorUnits == Long.MIN_VALUE) {
+            throw outOfRange("-(" + this + ")");
+        }
+        return new Money(-minorUnits);
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    /**
+     * Converte para {@link BigDecimal} com escala 4 (a mesma das colunas e da API).
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    private static AmountOutOfRangeException outOfRange(String value) {
+        return new AmountOutOfRangeException("Valor fora do limite suportado (4 casas decimais, até "
+                + new Money(Long.MAX_VALUE) + "): " + value);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
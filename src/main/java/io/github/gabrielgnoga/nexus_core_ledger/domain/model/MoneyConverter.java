@@ -0,0 +1,29 @@
+package io.github.gabrielgnoga.nexus_core_ledger.domain.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Conversor JPA entre {@link Money} e as colunas {@code numeric(19,4)}.
+ *
+ * <p>Aplicado automaticamente a todo atributo do tipo {@link Money}, sem alterar o
+ * esquema: o banco continua vendo os mesmos decimais de antes.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal value) {
+        return value == null ? null : Money.of(value);
+    }
+}
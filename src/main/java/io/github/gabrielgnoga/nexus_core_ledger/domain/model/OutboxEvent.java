@@ -0,0 +1,61 @@
+package io.github.gabrielgnoga.nexus_core_ledger.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento pendente de publicação (transactional outbox).
+ *
+ * <p>Gravado na mesma transação de banco do lançamento que o originou: o evento existe se,
+ * e somente se, o lançamento foi confirmado. A linha é removida depois de entregue aos
+ * assinantes. O ID (UUIDv7) segue a ordem de gravação, e é nessa ordem que os eventos
+ * são entregues.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Data
+@Entity
+@Table(name = "outbox_events")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "transaction_id", nullable = false)
+    private UUID transactionId;
+
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    @Column(name = "chain_seq")
+    private Long chainSeq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private Money amount;
+
+    @Column(name = "posted_at", nullable = false)
+    private LocalDateTime postedAt;
+
+    private String description;
+
+    @Column(name = "journal_entry_id")
+    private UUID journalEntryId;
+}
@@ -0,0 +1,104 @@
+package io.github.gabrielgnoga.nexus_core_ledger.domain.model;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Encadeamento por hash dos lançamentos de cada conta.
+ *
+ * <p>Cada transação guarda a sua posição na cadeia da conta ({@code chain_seq}, a partir de 1)
+ * e {@code chain_hash = SHA-256(hash anterior || bytes canônicos)}; a primeira parte de 32
+ * bytes zerados. A conta guarda a ponta da cadeia. Alterar, remover ou reordenar qualquer
+ * transação já gravada quebra todos os hashes seguintes e a ponta registrada na conta.</p>
+ *
+ * <p>Os bytes canônicos cobrem os campos de negócio (conta, posição, tipo, valor em unidades
+ * mínimas, data em microssegundos, descrição e lançamento contábil), com tamanho fixo ou
+ * prefixado. O ID da transação é uma chave substituta e fica fora do hash.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+public final class PostingChain {
+
+    public static final int HASH_BYTES = 32;
+
+    private static final byte[] GENESIS = new byte[HASH_BYTES];
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    });
+
+    private static final ThreadLocal<ByteBuffer> CANONICAL = ThreadLocal.withInitial(() -> ByteBuffer.allocate(256));
+
+    /**
+     * Elo da cadeia: posição e hash de uma transação (ou a ponta da cadeia de uma conta).
+     */
+    public record Link(long seq, byte[] hash) {
+
+        /** Ponta de uma conta sem lançamentos encadeados. */
+        public static final Link START = new Link(0, null);
+    }
+
+    private PostingChain() {
+    }
+
+    /**
+     * Calcula o elo seguinte à ponta informada.
+     *
+     * @param previous A ponta atual da cadeia da conta.
+     * @return O elo da nova transação, que passa a ser a ponta.
+     */
+    public static Link next(Link previous, UUID accountId, TransactionType type, Money amount,
+                            LocalDateTime timestamp, String description, UUID journalEntryId) {
+        long seq = previous.seq() + 1;
+        return new Link(seq, hash(previous.hash(), seq, accountId, type, amount.minorUnits(),
+                timestamp, description, journalEntryId));
+    }
+
+    /**
+     * Calcula o hash de uma transação a partir do hash anterior.
+     */
+    public static byte[] hash(byte[] previous, long seq, UUID accountId, TransactionType type, long amountMinorUnits,
+                              LocalDateTime timestamp, String description, UUID journalEntryId) {
+        byte[] text = description == null ? null : description.getBytes(StandardCharsets.UTF_8);
+        int size = 8 + 16 + 1 + 8 + 8 + 4 + 1 + 16 + 4 + (text == null ? 0 : text.length);
+        ByteBuffer buffer = CANONICAL.get();
+        if (buffer.capacity() < size) {
+            buffer = ByteBuffer.allocate(Integer.highestOneBit(size) << 1);
+            CANONICAL.set(buffer);
+        }
+        buffer.clear();
+        buffer.putLong(seq)
+                .putLong(accountId.getMostSignificantBits())
+                .putLong(accountId.getLeastSignificantBits())
+                .put((byte) (type == TransactionType.CREDIT ? 'C' : 'D'))
+                .putLong(amountMinorUnits)
+                .putLong(timestamp.toEpochSecond(ZoneOffset.UTC))
+                .putInt(timestamp.getNano());
+        if (journalEntryId == null) {
+            buffer.put((byte) 0).putLong(0).putLong(0);
+        } else {
+            buffer.put((byte) 1)
+                    .putLong(journalEntryId.getMostSignificantBits())
+                    .putLong(journalEntryId.getLeastSignificantBits());
+        }
+        buffer.putInt(text == null ? -1 : text.length);
+        if (text != null) {
+            buffer.put(text);
+        }
+
+        MessageDigest digest = SHA_256.get();
+        digest.update(previous == null ? GENESIS : previous);
+        digest.update(buffer.array(), 0, buffer.position());
+        return digest.digest();
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.gabrielgnoga.nexus_core_ledger.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Batimento de replicação: uma única linha regravada periodicamente no primário.
+ *
+ * <p>Ao ler a mesma linha na réplica, o valor encontrado indica até que instante
+ * a réplica já aplicou as alterações do primário (e, portanto, o seu atraso).</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Data
+@Entity
+@Table(name = "replication_heartbeat")
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplicationHeartbeat {
+
+    @Id
+    private Short id;
+
+    @Column(name = "beat_at_millis", nullable = false)
+    private long beatAtMillis;
+}
@@ -5,23 +5,28 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString; // Importante para evitar o loop
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Data
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        // Cobre o extrato paginado: filtro por conta + ordenação (timestamp DESC, id DESC).
+        @Index(name = "idx_transactions_account_timestamp", columnList = "account_id, timestamp DESC, id DESC"),
+        // Cobre a verificação da cadeia de hashes: conta + posição na cadeia.
+        @Index(name = "idx_transactions_account_chain", columnList = "account_id, chain_seq")
+})
 public class Transaction {
 
     @EqualsAndHashCode.Include
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false, precision = 19, scale = 4)
-    private BigDecimal amount;
+    private Money amount;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -32,19 +37,58 @@ public class Transaction {
 
     private String description;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "account_id", nullable = false)
     @ToString.Exclude
     private Account account;
 
     /**
-     * Garante que a data seja preenchida automaticamente
-     * antes de salvar no banco.
+     * Identificador do lançamento contábil (partida dobrada) ao qual esta transação pertence.
+     * Nulo para transações avulsas.
+     */
+    @Column(name = "journal_entry_id")
+    private UUID journalEntryId;
+
+    /**
+     * Posição desta transação na cadeia de hashes da conta (ver {@link PostingChain}).
+     */
+    @Column(name = "chain_seq", updatable = false)
+    private Long chainSeq;
+
+    @Column(name = "chain_hash", length = PostingChain.HASH_BYTES, updatable = false)
+    @ToString.Exclude
+    private byte[] chainHash;
+
+    /**
+     * Garante que a data seja preenchida automaticamente antes de salvar no banco e
+     * encadeia a transação na cadeia de hashes da conta, avançando a ponta da cadeia.
+     *
+     * <p>A conta é uma entidade gerenciada (já lida para o lançamento), de modo que a nova
+     * ponta é gravada junto com o saldo; lançamentos concorrentes na mesma conta são
+     * serializados pela versão otimista da conta.</p>
      */
     @PrePersist
     protected void onCreate() {
-        if (this.timestamp == null) {
-            this.timestamp = LocalDateTime.now();
-        }
+        this.timestamp = this.timestamp == null
+                ? currentTimestamp()
+                : this.timestamp.truncatedTo(ChronoUnit.MICROS);
+
+        PostingChain.Link head = account.getChainSeq() == null
+                ? PostingChain.Link.START
+                : new PostingChain.Link(account.getChainSeq(), account.getChainHash());
+        PostingChain.Link link = PostingChain.next(head, account.getId(), type, amount, timestamp, description, journalEntryId);
+        this.chainSeq = link.seq();
+        this.chainHash = link.hash();
+        account.setChainSeq(link.seq());
+        account.setChainHash(link.hash());
+    }
+
+    /**
+     * Retorna o instante atual truncado em microssegundos, a mesma precisão da coluna
+     * {@code timestamp} no banco. Assim o valor devolvido ao cliente é idêntico ao gravado,
+     * o que mantém exatas as comparações por data (cursores de extrato e saldos "as of").
+     */
+    public static LocalDateTime currentTimestamp() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,12 @@
 package io.github.gabrielgnoga.nexus_core_ledger.domain.model;
 
 import jakarta.persistence.*;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.listener.UserChangeListener;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,6 +24,7 @@ import java.util.UUID;
  */
 @Table(name = "users")
 @Entity(name = "User")
+@EntityListeners(UserChangeListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,6 +41,22 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private String password;
 
+    /**
+     * Perfil de acesso. Nulo nas linhas gravadas antes da coluna, tratado como {@link UserRole#USER}.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role")
+    @Setter
+    private UserRole role = UserRole.USER;
+
+    /**
+     * Login como está gravado no banco, mantido pelo {@link UserChangeListener} para que uma
+     * troca de login invalide também o login antigo no cache.
+     */
+    @Transient
+    @Setter
+    private String persistedLogin;
+
     public User(String login, String password) {
         this.login = login;
         this.password = password;
@@ -45,10 +64,13 @@ public class User implements UserDetails {
 
     /**
      * Define as "Roles" (Permissões) do usuário.
-     * Por enquanto, todo mundo que logar vai ter a permissão padrão "ROLE_USER".
+     * Todo mundo que logar tem a permissão padrão "ROLE_USER"; administradores também "ROLE_ADMIN".
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
+        if (role == UserRole.ADMIN) {
+            return List.of(new SimpleGrantedAuthority("ROLE_ADMIN"), new SimpleGrantedAuthority("ROLE_USER"));
+        }
         return List.of(new SimpleGrantedAuthority("ROLE_USER"));
     }
 
@@ -0,0 +1,17 @@
+package io.github.gabrielgnoga.nexus_core_ledger.domain.model;
+
+/**
+ * Perfis de acesso dos usuários da API.
+ *
+ * <ul>
+ * <li>**USER:** Operações do ledger (contas, lançamentos, extratos).</li>
+ * <li>**ADMIN:** Também as operações administrativas, como a auditoria completa do ledger.</li>
+ * </ul>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+public enum UserRole {
+    USER,
+    ADMIN
+}
@@ -0,0 +1,21 @@
+package io.github.gabrielgnoga.nexus_core_ledger.domain.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca uma chave primária {@code UUID} gerada como UUIDv7 (ordenada pelo tempo).
+ *
+ * @author Gabriel Gnoga
+ * @see UuidV7Generator
+ * @since 1.1.0
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7 {
+}
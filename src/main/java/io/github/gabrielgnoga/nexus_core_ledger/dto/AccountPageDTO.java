@@ -0,0 +1,22 @@
+package io.github.gabrielgnoga.nexus_core_ledger.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Página da listagem de contas, paginada por cursor.
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Schema(description = "Página da listagem de contas, na ordem do ID")
+public record AccountPageDTO(
+
+        @Schema(description = "Contas desta página")
+        List<AccountResponseDTO> items,
+
+        @Schema(description = "Cursor para buscar a próxima página; nulo quando não há mais contas",
+                example = "AZUHxR6Ic0KpT3bXn1m2Yw")
+        String nextCursor
+) {}
@@ -2,6 +2,7 @@ package io.github.gabrielgnoga.nexus_core_ledger.dto;
 
 import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
 import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.math.BigDecimal;
@@ -36,6 +37,14 @@ public record AccountResponseDTO(
         LocalDateTime createdAt
 ) {
 
+    /**
+     * Construtor usado pelas projeções JPQL ({@code SELECT new}), que leem o saldo já
+     * convertido em {@link Money}.
+     */
+    public AccountResponseDTO(UUID id, String name, Money balance, AccountType accountType, LocalDateTime createdAt) {
+        this(id, name, balance.toBigDecimal(), accountType, createdAt);
+    }
+
     /**
      * Converte uma Entidade {@link Account} para este DTO.
      * Método estático para facilitar a conversão no Controller.
@@ -44,7 +53,7 @@ public record AccountResponseDTO(
         return new AccountResponseDTO(
                 account.getId(),
                 account.getName(),
-                account.getBalance(),
+                account.getBalance().toBigDecimal(),
                 account.getAccountType(),
                 LocalDateTime.now()
         );
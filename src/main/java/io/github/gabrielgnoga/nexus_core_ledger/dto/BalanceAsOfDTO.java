@@ -0,0 +1,32 @@
+package io.github.gabrielgnoga.nexus_core_ledger.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Saldo de uma conta em uma data passada (consulta "as of").
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Schema(description = "Saldo da conta em uma data de referência")
+public record BalanceAsOfDTO(
+
+        @Schema(description = "ID da conta", example = "a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11")
+        UUID accountId,
+
+        @Schema(description = "Data de referência consultada", example = "2026-01-31T23:59:59")
+        LocalDateTime asOf,
+
+        @Schema(description = "Saldo na data de referência", example = "1250.50")
+        BigDecimal balance,
+
+        @Schema(description = "Data do checkpoint usado como ponto de partida (nulo se nenhum)", example = "2026-01-31T00:00:00")
+        LocalDateTime checkpointAsOf,
+
+        @Schema(description = "Quantidade de transações reaplicadas após o checkpoint", example = "12")
+        long replayedPostings
+) {}
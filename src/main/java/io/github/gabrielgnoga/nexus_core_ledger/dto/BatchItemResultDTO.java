@@ -0,0 +1,50 @@
+package io.github.gabrielgnoga.nexus_core_ledger.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Resultado do processamento de um item de um lote de transações.
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Schema(description = "Resultado de um item do lote")
+public record BatchItemResultDTO(
+
+        @Schema(description = "Posição do item na lista enviada (começa em 0)", example = "0")
+        int index,
+
+        @Schema(description = "Situação final do item", example = "ACCEPTED")
+        Status status,
+
+        @Schema(description = "Transação gerada, quando o item foi gravado")
+        TransactionResponseDTO transaction,
+
+        @Schema(description = "Motivo da rejeição, quando houver", example = "Saldo insuficiente para realizar a operação. Saldo atual: 10.0000")
+        String error
+) {
+
+    /**
+     * Situação de um item do lote.
+     */
+    public enum Status {
+        /** Item gravado. */
+        ACCEPTED,
+        /** Item inválido ou violou uma regra de negócio. */
+        REJECTED,
+        /** Item válido, mas desfeito porque outro item do lote falhou (modo ALL_OR_NOTHING). */
+        ROLLED_BACK
+    }
+
+    public static BatchItemResultDTO accepted(int index, TransactionResponseDTO transaction) {
+        return new BatchItemResultDTO(index, Status.ACCEPTED, transaction, null);
+    }
+
+    public static BatchItemResultDTO rejected(int index, String error) {
+        return new BatchItemResultDTO(index, Status.REJECTED, null, error);
+    }
+
+    public static BatchItemResultDTO rolledBack(int index) {
+        return new BatchItemResultDTO(index, Status.ROLLED_BACK, null, null);
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.gabrielgnoga.nexus_core_ledger.dto;
+
+/**
+ * Define como um lote de transações reage às falhas de itens individuais.
+ *
+ * <ul>
+ * <li>**ALL_OR_NOTHING:** Qualquer item rejeitado desfaz o lote inteiro.</li>
+ * <li>**PARTIAL:** Os itens válidos são gravados e os rejeitados são apenas reportados.</li>
+ * </ul>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+public enum BatchMode {
+    ALL_OR_NOTHING,
+    PARTIAL
+}
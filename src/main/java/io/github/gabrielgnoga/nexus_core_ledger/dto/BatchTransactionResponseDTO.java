@@ -0,0 +1,30 @@
+package io.github.gabrielgnoga.nexus_core_ledger.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Resposta do processamento de um lote de transações.
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Schema(description = "Resultado consolidado de um lote de transações")
+public record BatchTransactionResponseDTO(
+
+        @Schema(description = "Modo de falha aplicado ao lote", example = "ALL_OR_NOTHING")
+        BatchMode mode,
+
+        @Schema(description = "Indica se a transação de banco do lote foi confirmada", example = "true")
+        boolean committed,
+
+        @Schema(description = "Quantidade de itens gravados", example = "998")
+        int accepted,
+
+        @Schema(description = "Quantidade de itens rejeitados", example = "2")
+        int rejected,
+
+        @Schema(description = "Resultado individual de cada item, na ordem enviada")
+        List<BatchItemResultDTO> items
+) {}
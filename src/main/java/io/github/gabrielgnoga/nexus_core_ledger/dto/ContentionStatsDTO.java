@@ -0,0 +1,22 @@
+package io.github.gabrielgnoga.nexus_core_ledger.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO com os contadores de concorrência otimista dos lançamentos.
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Schema(description = "Contadores de conflitos de versão nos lançamentos")
+public record ContentionStatsDTO(
+
+        @Schema(description = "Total de conflitos de versão detectados", example = "42")
+        long conflicts,
+
+        @Schema(description = "Total de retentativas realizadas", example = "40")
+        long retries,
+
+        @Schema(description = "Lançamentos que esgotaram as tentativas", example = "2")
+        long exhausted
+) {}
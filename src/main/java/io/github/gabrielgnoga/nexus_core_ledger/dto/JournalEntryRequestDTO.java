@@ -0,0 +1,29 @@
+package io.github.gabrielgnoga.nexus_core_ledger.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Requisição de lançamento contábil em partida dobrada (várias pernas, uma única transação).
+ *
+ * <p>A soma das pernas de débito deve ser igual à soma das pernas de crédito.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Schema(description = "Lançamento contábil com várias pernas balanceadas")
+public record JournalEntryRequestDTO(
+
+        @Schema(description = "Descrição do lançamento", example = "Transferência entre contas")
+        String description,
+
+        @Schema(description = "Pernas do lançamento (mínimo de duas)")
+        @NotNull(message = "As pernas são obrigatórias")
+        @Size(min = 2, max = 100, message = "O lançamento deve ter entre 2 e 100 pernas")
+        @Valid
+        List<JournalLegDTO> legs
+) {}
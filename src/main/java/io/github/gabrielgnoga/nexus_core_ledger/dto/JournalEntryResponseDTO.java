@@ -0,0 +1,29 @@
+package io.github.gabrielgnoga.nexus_core_ledger.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resposta de um lançamento contábil gravado.
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Schema(description = "Lançamento contábil gravado")
+public record JournalEntryResponseDTO(
+
+        @Schema(description = "ID do lançamento (compartilhado por todas as pernas)", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID id,
+
+        @Schema(description = "Descrição do lançamento", example = "Transferência entre contas")
+        String description,
+
+        @Schema(description = "Data e hora do lançamento", example = "2026-02-11T14:30:00")
+        LocalDateTime timestamp,
+
+        @Schema(description = "Transações geradas, uma por perna, na ordem enviada")
+        List<TransactionResponseDTO> legs
+) {}
@@ -0,0 +1,34 @@
+package io.github.gabrielgnoga.nexus_core_ledger.dto;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Uma perna (linha) de um lançamento contábil com várias contas.
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Schema(description = "Perna de um lançamento contábil")
+public record JournalLegDTO(
+
+        @Schema(description = "ID da conta movimentada", example = "a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11")
+        @NotNull(message = "O ID da conta é obrigatório")
+        UUID accountId,
+
+        @Schema(description = "Valor da perna", example = "150.50")
+        @NotNull(message = "O valor é obrigatório")
+        @Positive(message = "O valor deve ser positivo")
+        @Digits(integer = 15, fraction = 4, message = "O valor deve ter no máximo 15 dígitos inteiros e 4 casas decimais")
+        BigDecimal amount,
+
+        @Schema(description = "Tipo da perna: CREDIT ou DEBIT", example = "DEBIT")
+        @NotNull(message = "O tipo é obrigatório")
+        TransactionType type
+) {}
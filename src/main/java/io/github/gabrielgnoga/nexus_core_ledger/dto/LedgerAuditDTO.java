@@ -0,0 +1,48 @@
+package io.github.gabrielgnoga.nexus_core_ledger.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado da verificação de integridade das cadeias de hashes dos lançamentos.
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Schema(description = "Resultado da auditoria de integridade do ledger")
+public record LedgerAuditDTO(
+
+        @Schema(description = "Se todas as cadeias verificadas estão íntegras", example = "true")
+        boolean intact,
+
+        @Schema(description = "Quantidade de contas verificadas", example = "1500")
+        long accountsChecked,
+
+        @Schema(description = "Quantidade de lançamentos encadeados verificados", example = "2500000")
+        long postingsChecked,
+
+        @Schema(description = "Duração da verificação, em milissegundos", example = "5400")
+        long elapsedMillis,
+
+        @Schema(description = "Cadeias quebradas encontradas (limitado às primeiras 100)")
+        List<BrokenChain> brokenChains
+) {
+
+    /**
+     * Primeira divergência encontrada na cadeia de uma conta.
+     */
+    @Schema(description = "Divergência na cadeia de uma conta")
+    public record BrokenChain(
+
+            @Schema(description = "ID da conta")
+            UUID accountId,
+
+            @Schema(description = "Posição na cadeia onde a divergência foi encontrada", example = "42")
+            long chainSeq,
+
+            @Schema(description = "Descrição da divergência", example = "Hash divergente: lançamento alterado")
+            String reason
+    ) {}
+}
@@ -0,0 +1,59 @@
+package io.github.gabrielgnoga.nexus_core_ledger.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Situação de uma execução da auditoria completa do ledger, que roda em segundo plano.
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Schema(description = "Execução da auditoria de integridade do ledger")
+public record LedgerAuditJobDTO(
+
+        @Schema(description = "ID da execução")
+        UUID id,
+
+        @Schema(description = "Situação da execução", example = "RUNNING")
+        Status status,
+
+        @Schema(description = "Início da execução")
+        LocalDateTime startedAt,
+
+        @Schema(description = "Fim da execução, quando terminada")
+        LocalDateTime finishedAt,
+
+        @Schema(description = "Resultado da auditoria, quando concluída")
+        LedgerAuditDTO result,
+
+        @Schema(description = "Motivo da falha, quando houver", example = "Falha ao ler as contas")
+        String error
+) {
+
+    /**
+     * Situação de uma execução.
+     */
+    public enum Status {
+        /** Em andamento; novas solicitações devolvem esta mesma execução. */
+        RUNNING,
+        /** Concluída, com o resultado em {@code result}. */
+        COMPLETED,
+        /** Interrompida por erro. */
+        FAILED
+    }
+
+    public static LedgerAuditJobDTO running(UUID id, LocalDateTime startedAt) {
+        return new LedgerAuditJobDTO(id, Status.RUNNING, startedAt, null, null, null);
+    }
+
+    public LedgerAuditJobDTO completed(LedgerAuditDTO result, LocalDateTime finishedAt) {
+        return new LedgerAuditJobDTO(id, Status.COMPLETED, startedAt, finishedAt, result, null);
+    }
+
+    public LedgerAuditJobDTO failed(String error, LocalDateTime finishedAt) {
+        return new LedgerAuditJobDTO(id, Status.FAILED, startedAt, finishedAt, null, error);
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.gabrielgnoga.nexus_core_ledger.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+/**
+ * DTO com o diagnóstico de "pinning" das virtual threads (carrier thread presa).
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Schema(description = "Eventos de virtual threads presas à carrier thread")
+public record PinningStatsDTO(
+
+        @Schema(description = "Se o diagnóstico está ativo (exige virtual threads habilitadas)", example = "true")
+        boolean enabled,
+
+        @Schema(description = "Total de eventos de pinning acima do limite configurado", example = "12")
+        long events,
+
+        @Schema(description = "Tempo total, em milissegundos, com a carrier thread presa", example = "840")
+        long totalPinnedMillis,
+
+        @Schema(description = "Locais de origem mais frequentes (primeiro frame fora do JDK) e o número de eventos")
+        Map<String, Long> topSites
+) {}
@@ -0,0 +1,22 @@
+package io.github.gabrielgnoga.nexus_core_ledger.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Página do extrato de uma conta, paginada por cursor.
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Schema(description = "Página do extrato, da transação mais recente para a mais antiga")
+public record StatementPageDTO(
+
+        @Schema(description = "Transações desta página")
+        List<TransactionResponseDTO> items,
+
+        @Schema(description = "Cursor para buscar a próxima página; nulo quando não há mais transações",
+                example = "MjAyNi0wMi0xMVQxNDozMDowMHw1NTBlODQwMC1lMjliLTQxZDQtYTcxNi00NDY2NTU0NDAwMDA")
+        String nextCursor
+) {}
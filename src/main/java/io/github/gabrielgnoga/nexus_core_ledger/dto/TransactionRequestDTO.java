@@ -2,6 +2,7 @@ package io.github.gabrielgnoga.nexus_core_ledger.dto;
 
 import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
@@ -34,6 +35,7 @@ public record TransactionRequestDTO(
         @Schema(description = "Valor da movimentação", example = "150.50")
         @NotNull(message = "O valor é obrigatório")
         @Positive(message = "O valor deve ser positivo")
+        @Digits(integer = 15, fraction = 4, message = "O valor deve ter no máximo 15 dígitos inteiros e 4 casas decimais")
         BigDecimal amount,
 
 /**
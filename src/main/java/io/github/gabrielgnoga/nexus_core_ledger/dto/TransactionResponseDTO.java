@@ -1,5 +1,6 @@
 package io.github.gabrielgnoga.nexus_core_ledger.dto;
 
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
 import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Transaction;
 import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -38,6 +39,16 @@ public record TransactionResponseDTO(
         @Schema(description = "ID da conta vinculada", example = "a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11")
         UUID accountId
 ) {
+
+    /**
+     * Construtor usado pelas projeções JPQL ({@code SELECT new}), que leem o valor já
+     * convertido em {@link Money}.
+     */
+    public TransactionResponseDTO(UUID id, Money amount, TransactionType type, LocalDateTime timestamp,
+                                  String description, UUID accountId) {
+        this(id, amount.toBigDecimal(), type, timestamp, description, accountId);
+    }
+
     /**
      * Converte uma entidade de domínio {@link Transaction} para este DTO.
      *
@@ -47,7 +58,7 @@ public record TransactionResponseDTO(
     public static TransactionResponseDTO fromEntity(Transaction transaction) {
         return new TransactionResponseDTO(
                 transaction.getId(),
-                transaction.getAmount(),
+                transaction.getAmount().toBigDecimal(),
                 transaction.getType(),
                 transaction.getTimestamp(),
                 transaction.getDescription(),
@@ -0,0 +1,44 @@
+package io.github.gabrielgnoga.nexus_core_ledger.dto;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Balancete: saldo total e quantidade de contas por tipo de conta e moeda.
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Schema(description = "Balancete por tipo de conta e moeda")
+public record TrialBalanceDTO(
+
+        @Schema(description = "Momento em que o balancete foi gerado")
+        LocalDateTime generatedAt,
+
+        @Schema(description = "Uma linha por tipo de conta e moeda, ordenadas por moeda e tipo")
+        List<Line> lines
+) {
+
+    /**
+     * Totais de um tipo de conta em uma moeda.
+     */
+    @Schema(description = "Totais de um tipo de conta em uma moeda")
+    public record Line(
+
+            @Schema(description = "Tipo da conta", example = "ASSET")
+            AccountType accountType,
+
+            @Schema(description = "Moeda", example = "BRL")
+            String currency,
+
+            @Schema(description = "Quantidade de contas", example = "1200")
+            long accounts,
+
+            @Schema(description = "Soma dos saldos das contas", example = "150000.0000")
+            BigDecimal balance
+    ) {}
+}
@@ -0,0 +1,18 @@
+package io.github.gabrielgnoga.nexus_core_ledger.exception;
+
+/**
+ * Exceção lançada quando um valor ou saldo não cabe na representação de {@code Money}
+ * (mais de 4 casas decimais, ou além do {@code long} de unidades mínimas).
+ *
+ * <p>É mapeada para 422 (Unprocessable Entity) pelo {@link GlobalExceptionHandler}. Estende
+ * {@link ArithmeticException} para manter o contrato de {@code Money}, mas somente ela é
+ * tratada como regra de negócio: outras {@code ArithmeticException} continuam sendo erros.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+public class AmountOutOfRangeException extends ArithmeticException {
+    public AmountOutOfRangeException(String message) {
+        super(message);
+    }
+}
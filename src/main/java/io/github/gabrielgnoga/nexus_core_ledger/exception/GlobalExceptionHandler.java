@@ -1,6 +1,7 @@
 package io.github.gabrielgnoga.nexus_core_ledger.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -101,6 +102,78 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(err);
     }
+    /**
+     * Intercepta requisições que não podem ser aceitas na configuração atual.
+     *
+     * @param ex A exceção contendo o motivo da recusa.
+     * @param request A requisição HTTP original.
+     * @return Um {@link ResponseEntity} contendo o {@link ApiError} com status 400 (Bad Request).
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ApiError> handleInvalidRequest(InvalidRequestException ex, HttpServletRequest request) {
+
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+
+        ApiError apiError = new ApiError(
+                status.value(),
+                "Requisição Inválida",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(status).body(apiError);
+    }
+
+    /**
+     * Intercepta conflitos de concorrência otimista que persistiram após todas as retentativas.
+     *
+     * <p>Devolve 409 (Conflict) para que o cliente saiba que pode repetir a operação.</p>
+     *
+     * @param ex A exceção de conflito de versão.
+     * @param request A requisição HTTP original.
+     * @return Um {@link ResponseEntity} contendo o {@link ApiError} com status 409 (Conflict).
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleOptimisticLockingFailure(OptimisticLockingFailureException ex, HttpServletRequest request) {
+
+        HttpStatus status = HttpStatus.CONFLICT;
+
+        ApiError apiError = new ApiError(
+                status.value(),
+                "Conflito de Concorrência",
+                "A conta foi alterada por outra operação simultânea. Tente novamente.",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(status).body(apiError);
+    }
+
+    /**
+     * Intercepta estouros da aritmética de valores ({@code Money}).
+     *
+     * <p>Um saldo ou valor que não cabe em {@code numeric(19,4)} é rejeitado com 422
+     * (Unprocessable Entity), em vez de ser truncado ou cair no erro genérico. Outras
+     * {@link ArithmeticException} não são regra de negócio e seguem como erro interno.</p>
+     *
+     * @param ex A exceção de valor fora do limite.
+     * @param request A requisição HTTP original.
+     * @return Um {@link ResponseEntity} contendo o {@link ApiError} com status 422 (Unprocessable Entity).
+     */
+    @ExceptionHandler(AmountOutOfRangeException.class)
+    public ResponseEntity<ApiError> handleAmountOutOfRange(AmountOutOfRangeException ex, HttpServletRequest request) {
+
+        HttpStatus status = HttpStatus.UNPROCESSABLE_ENTITY;
+
+        ApiError apiError = new ApiError(
+                status.value(),
+                "Valor Fora do Limite",
+                "O valor ou o saldo resultante excede a precisão suportada (19 dígitos, 4 casas decimais).",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(status).body(apiError);
+    }
+
     /**
      * Captura os erros de validação disparados pelas anotações (@Valid, @Email, @NotBlank, etc).
      *
@@ -0,0 +1,18 @@
+package io.github.gabrielgnoga.nexus_core_ledger.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando a requisição é bem formada, mas não pode ser aceita
+ * na configuração atual (ex: lote vazio ou acima do limite).
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
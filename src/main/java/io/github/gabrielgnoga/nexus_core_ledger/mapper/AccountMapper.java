@@ -30,7 +30,7 @@ public class AccountMapper {
         return new AccountResponseDTO(
                 account.getId(),
                 account.getName(),
-                account.getBalance(),
+                account.getBalance().toBigDecimal(),
                 account.getAccountType(),
                 account.getCreatedAt()
         );
@@ -1,9 +1,20 @@
 package io.github.gabrielgnoga.nexus_core_ledger.repository;
 
 import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.AccountResponseDTO;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -20,6 +31,20 @@ import java.util.UUID;
 @Repository
 public interface AccountRepository extends JpaRepository<Account, UUID> {
 
+    /**
+     * Projeção usada pela listagem paginada: monta o DTO direto no SELECT, sem entidades gerenciadas.
+     */
+    String LISTING_PROJECTION = """
+            SELECT new io.github.gabrielgnoga.nexus_core_ledger.dto.AccountResponseDTO(
+                a.id, a.name, a.balance, a.accountType, a.createdAt)
+            FROM Account a
+            """;
+
+    /**
+     * Cursor da primeira página: o UUID nulo antecede qualquer ID na ordenação do banco.
+     */
+    UUID BEFORE_FIRST = new UUID(0L, 0L);
+
     /**
      * Verifica se já existe uma conta cadastrada com o nome fornecido.
      *
@@ -30,4 +55,110 @@ public interface AccountRepository extends JpaRepository<Account, UUID> {
      * @return {@code true} se o nome já estiver em uso, {@code false} caso contrário.
      */
     boolean existsByName(String name);
-}
\ No newline at end of file
+
+    /**
+     * Inicializa a versão das contas gravadas antes do controle otimista de concorrência.
+     *
+     * <p>O {@code ddl-auto: update} cria a coluna {@code version} nula nas linhas existentes,
+     * e o Hibernate não incrementa nem compara uma versão nula.</p>
+     *
+     * @return Quantidade de contas inicializadas.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Account a SET a.version = 0 WHERE a.version IS NULL")
+    int initializeMissingVersions();
+
+    /**
+     * Busca a conta e adquire o lock exclusivo da linha (SELECT ... FOR UPDATE).
+     *
+     * <p>Usado pelos lançamentos com várias pernas: os locks são obtidos sempre na mesma
+     * ordem (pelo UUID), o que impede deadlocks entre transferências em sentidos opostos.</p>
+     *
+     * @param id O UUID da conta.
+     * @return A conta travada até o fim da transação corrente, se existir.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :id")
+    Optional<Account> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * Busca a página da listagem sem filtros que vem depois do ID informado (paginação por cursor).
+     *
+     * <p>Projeção direta em {@link AccountResponseDTO}: o custo da consulta acompanha o
+     * tamanho da página, e não o da tabela, e nada entra no contexto de persistência.
+     * A ordenação pelo ID (UUIDv7, crescente no tempo) é estável e única, então o próprio
+     * ID serve de cursor, e o predicado de keyset ({@code a.id > :id}) posiciona o banco
+     * direto na chave primária, sem OFFSET.</p>
+     *
+     * <p>Cada combinação de filtros tem a sua consulta, em vez de predicados
+     * {@code (:param IS NULL OR ...)}: o plano preparado de um predicado genérico não pode
+     * contar com o filtro e acaba ignorando o índice.</p>
+     *
+     * @param id O ID da última conta entregue ({@link #BEFORE_FIRST} na primeira página).
+     * @param limit Quantidade máxima de linhas.
+     * @return As contas seguintes, na ordem do ID.
+     */
+    @Query(LISTING_PROJECTION + """
+            WHERE a.id > :id
+            ORDER BY a.id
+            """)
+    List<AccountResponseDTO> findListingPage(@Param("id") UUID id, Limit limit);
+
+    /**
+     * Página da listagem filtrada por tipo, servida por {@code idx_accounts_type_currency_id}.
+     *
+     * @param accountType O tipo de conta.
+     * @param id O ID da última conta entregue ({@link #BEFORE_FIRST} na primeira página).
+     * @param limit Quantidade máxima de linhas.
+     * @return As contas seguintes do tipo, na ordem do ID.
+     * @see #findListingPage(UUID, Limit)
+     */
+    @Query(LISTING_PROJECTION + """
+            WHERE a.accountType = :accountType
+              AND a.id > :id
+            ORDER BY a.id
+            """)
+    List<AccountResponseDTO> findListingPageByType(@Param("accountType") AccountType accountType,
+                                                   @Param("id") UUID id,
+                                                   Limit limit);
+
+    /**
+     * Página da listagem filtrada por moeda, servida por {@code idx_accounts_currency_id}.
+     *
+     * @param currency A moeda, em maiúsculas.
+     * @param id O ID da última conta entregue ({@link #BEFORE_FIRST} na primeira página).
+     * @param limit Quantidade máxima de linhas.
+     * @return As contas seguintes na moeda, na ordem do ID.
+     * @see #findListingPage(UUID, Limit)
+     */
+    @Query(LISTING_PROJECTION + """
+            WHERE a.currency = :currency
+              AND a.id > :id
+            ORDER BY a.id
+            """)
+    List<AccountResponseDTO> findListingPageByCurrency(@Param("currency") String currency,
+                                                       @Param("id") UUID id,
+                                                       Limit limit);
+
+    /**
+     * Página da listagem filtrada por tipo e moeda, servida por {@code idx_accounts_type_currency_id}.
+     *
+     * @param accountType O tipo de conta.
+     * @param currency A moeda, em maiúsculas.
+     * @param id O ID da última conta entregue ({@link #BEFORE_FIRST} na primeira página).
+     * @param limit Quantidade máxima de linhas.
+     * @return As contas seguintes do tipo e da moeda, na ordem do ID.
+     * @see #findListingPage(UUID, Limit)
+     */
+    @Query(LISTING_PROJECTION + """
+            WHERE a.accountType = :accountType
+              AND a.currency = :currency
+              AND a.id > :id
+            ORDER BY a.id
+            """)
+    List<AccountResponseDTO> findListingPageByTypeAndCurrency(@Param("accountType") AccountType accountType,
+                                                              @Param("currency") String currency,
+                                                              @Param("id") UUID id,
+                                                              Limit limit);
+}
@@ -0,0 +1,32 @@
+package io.github.gabrielgnoga.nexus_core_ledger.repository;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.BalanceCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositório dos checkpoints de saldo ({@link BalanceCheckpoint}).
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Repository
+public interface BalanceCheckpointRepository extends JpaRepository<BalanceCheckpoint, UUID> {
+
+    /**
+     * Busca o checkpoint mais recente da conta que não ultrapassa a data informada.
+     *
+     * <p>Resolvida pelo índice {@code (account_id, as_of DESC)} com uma única leitura.</p>
+     *
+     * @param accountId O UUID da conta.
+     * @param asOf A data de referência.
+     * @return O checkpoint mais próximo anterior (ou igual) à data, se houver.
+     */
+    Optional<BalanceCheckpoint> findFirstByAccountIdAndAsOfLessThanEqualOrderByAsOfDesc(UUID accountId, LocalDateTime asOf);
+
+    boolean existsByAccountIdAndAsOf(UUID accountId, LocalDateTime asOf);
+}
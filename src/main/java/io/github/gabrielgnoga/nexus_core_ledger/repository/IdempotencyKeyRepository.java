@@ -0,0 +1,32 @@
+package io.github.gabrielgnoga.nexus_core_ledger.repository;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repositório das chaves de idempotência ({@link IdempotencyKey}).
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    /**
+     * Remove as chaves gravadas antes da data de corte.
+     *
+     * @param cutoff A data de corte.
+     * @return O número de chaves removidas.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyKey k WHERE k.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,17 @@
+package io.github.gabrielgnoga.nexus_core_ledger.repository;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repositório dos eventos pendentes de publicação ({@link OutboxEvent}).
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+}
@@ -1,11 +1,22 @@
 package io.github.gabrielgnoga.nexus_core_ledger.repository;
 
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
 import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Transaction;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repositório de dados para a entidade Transação (Transaction).
@@ -20,6 +31,16 @@ import java.util.UUID;
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
 
+    /**
+     * Projeção usada pelas consultas de extrato. {@code t.account.id} é resolvido pela
+     * coluna {@code account_id}, sem JOIN com {@code accounts}.
+     */
+    String STATEMENT_PROJECTION = """
+            SELECT new io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO(
+                t.id, t.amount, t.type, t.timestamp, t.description, t.account.id)
+            FROM Transaction t
+            """;
+
     /**
      * Busca o extrato completo de uma conta, ordenado do mais recente para o mais antigo.
      *
@@ -31,4 +52,144 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
      */
     List<Transaction> findByAccountIdOrderByTimestampDesc(UUID accountId);
 
-}
\ No newline at end of file
+    /**
+     * Busca a primeira página do extrato de uma conta (paginação por cursor).
+     *
+     * <p>Projeção direta em {@link TransactionResponseDTO}: lê apenas a tabela
+     * {@code transactions} (o ID da conta vem da própria chave estrangeira), sem
+     * carregar entidades nem tocar a tabela {@code accounts}. A ordenação inclui o ID
+     * como critério de desempate, para que o par (timestamp, id) identifique cada linha
+     * de forma única, e é coberta pelo índice {@code idx_transactions_account_timestamp}.</p>
+     *
+     * @param accountId O UUID da conta.
+     * @param limit Quantidade máxima de linhas.
+     * @return As transações mais recentes da conta.
+     */
+    @Query(STATEMENT_PROJECTION + """
+            WHERE t.account.id = :accountId
+            ORDER BY t.timestamp DESC, t.id DESC
+            """)
+    List<TransactionResponseDTO> findStatementFirstPage(@Param("accountId") UUID accountId, Limit limit);
+
+    /**
+     * Busca a página do extrato que vem depois do cursor (timestamp, id) informado.
+     *
+     * <p>O predicado de keyset (comparação de tupla) permite ao banco posicionar-se direto
+     * no índice, com custo constante independentemente da profundidade da página (sem OFFSET).
+     * O limite simples {@code t.timestamp <= :timestamp}, redundante com a tupla, é o que o
+     * PostgreSQL usa para descartar as partições mensais mais novas que o cursor.</p>
+     *
+     * @param accountId O UUID da conta.
+     * @param timestamp O timestamp da última linha entregue.
+     * @param id O ID da última linha entregue.
+     * @param limit Quantidade máxima de linhas.
+     * @return As transações seguintes, na mesma ordenação.
+     */
+    @Query(STATEMENT_PROJECTION + """
+            WHERE t.account.id = :accountId
+              AND t.timestamp <= :timestamp
+              AND (t.timestamp, t.id) < (:timestamp, :id)
+            ORDER BY t.timestamp DESC, t.id DESC
+            """)
+    List<TransactionResponseDTO> findStatementPageAfter(@Param("accountId") UUID accountId,
+                                                        @Param("timestamp") LocalDateTime timestamp,
+                                                        @Param("id") UUID id,
+                                                        Limit limit);
+
+    /**
+     * Percorre o extrato completo de uma conta como um {@link Stream}, sem materializar a lista.
+     *
+     * <p>O fetch size faz o driver buscar as linhas em blocos por meio de um cursor no servidor.
+     * Como o resultado é uma projeção, nada é mantido no contexto de persistência.
+     * Deve ser consumido dentro de uma transação e fechado ao final (try-with-resources).</p>
+     *
+     * @param accountId O UUID da conta.
+     * @return Stream com as transações da mais recente para a mais antiga.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(STATEMENT_PROJECTION + """
+            WHERE t.account.id = :accountId
+            ORDER BY t.timestamp DESC, t.id DESC
+            """)
+    Stream<TransactionResponseDTO> streamStatement(@Param("accountId") UUID accountId);
+
+    /**
+     * Resultado agregado de uma janela de transações: totais de créditos e débitos e quantidade.
+     *
+     * <p>Os totais são somados separadamente porque o JPQL não aplica operadores aritméticos
+     * a atributos convertidos ({@link Money}); a diferença é feita em memória. O {@code SUM}
+     * devolve o decimal da coluna, já sem o conversor.</p>
+     *
+     * @param credits Soma dos créditos ({@code null} se não houver créditos).
+     * @param debits Soma dos débitos ({@code null} se não houver débitos).
+     * @param count Quantidade de transações na janela.
+     */
+    record PostingSum(BigDecimal credits, BigDecimal debits, long count) {
+
+        /**
+         * Efeito líquido da janela no saldo: créditos menos débitos.
+         */
+        public Money net() {
+            Money net = credits == null ? Money.ZERO : Money.of(credits);
+            return debits == null ? net : net.minus(Money.of(debits));
+        }
+    }
+
+    /**
+     * Soma o efeito das transações da conta no intervalo {@code (from, to]}.
+     *
+     * <p>Usada para reaplicar as transações posteriores a um checkpoint de saldo.</p>
+     *
+     * @param accountId O UUID da conta.
+     * @param from Início exclusivo (data do checkpoint).
+     * @param to Fim inclusivo (data de referência).
+     * @return O efeito líquido e a quantidade de transações.
+     */
+    @Query("""
+            SELECT new io.github.gabrielgnoga.nexus_core_ledger.repository.TransactionRepository$PostingSum(
+                SUM(CASE WHEN t.type = io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType.CREDIT
+                         THEN t.amount END),
+                SUM(CASE WHEN t.type = io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType.DEBIT
+                         THEN t.amount END),
+                COUNT(t))
+            FROM Transaction t
+            WHERE t.account.id = :accountId AND t.timestamp > :from AND t.timestamp <= :to
+            """)
+    PostingSum sumPostingsBetween(@Param("accountId") UUID accountId,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
+
+    /**
+     * Soma o efeito de todas as transações da conta até {@code to} (inclusive).
+     *
+     * <p>Usada quando a conta ainda não tem checkpoint anterior à data de referência.</p>
+     *
+     * @param accountId O UUID da conta.
+     * @param to Fim inclusivo (data de referência).
+     * @return O efeito líquido e a quantidade de transações.
+     */
+    @Query("""
+            SELECT new io.github.gabrielgnoga.nexus_core_ledger.repository.TransactionRepository$PostingSum(
+                SUM(CASE WHEN t.type = io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType.CREDIT
+                         THEN t.amount END),
+                SUM(CASE WHEN t.type = io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType.DEBIT
+                         THEN t.amount END),
+                COUNT(t))
+            FROM Transaction t
+            WHERE t.account.id = :accountId AND t.timestamp <= :to
+            """)
+    PostingSum sumPostingsUntil(@Param("accountId") UUID accountId, @Param("to") LocalDateTime to);
+
+    /**
+     * Lista as contas que tiveram transações no intervalo {@code [from, to)}.
+     *
+     * @param from Início inclusivo.
+     * @param to Fim exclusivo.
+     * @return Os IDs das contas movimentadas.
+     */
+    @Query("SELECT DISTINCT t.account.id FROM Transaction t WHERE t.timestamp >= :from AND t.timestamp < :to")
+    List<UUID> findAccountIdsWithPostingsBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,126 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.gabrielgnoga.nexus_core_ledger.config.ReplicaRoutingDataSource;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.listener.AccountChangeListener;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.AccountResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.mapper.AccountMapper;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache das contas (com saldo) servidas por {@code GET /api/accounts/{id}}, indexado pelo ID.
+ *
+ * <p>Limitado por tamanho, com despejo W-TinyLFU do Caffeine (frequência + recência).
+ * É mantido por escrita direta (write-through): após o commit de cada alteração de
+ * {@link io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account} a entrada é substituída
+ * pelo novo estado (ver {@link AccountChangeListener}), e contas removidas ou atualizadas
+ * fora do JPA são invalidadas.</p>
+ *
+ * <p>Entradas ausentes são carregadas do primário, nunca da réplica de leitura: o cache não
+ * expira, e um saldo atrasado da réplica ficaria servido até a próxima alteração da conta.
+ * A consulta roda fora do lock do Caffeine (sem prender threads virtuais); se uma gravação
+ * ou invalidação acontecer durante a carga, o valor carregado é descartado em seguida, de
+ * modo que uma leitura iniciada antes de um commit nunca sobrescreve o valor gravado depois
+ * dele. Métricas: {@code cache.gets{cache="accounts"}} e {@code ledger.account_cache.hit_ratio}.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Component
+public class AccountCache implements MeterBinder {
+
+    private final AccountRepository accountRepository;
+    private final AccountMapper accountMapper;
+    private final Cache<UUID, AccountResponseDTO> accounts;
+    private final AtomicLong writes = new AtomicLong();
+
+    public AccountCache(AccountRepository accountRepository,
+                        AccountMapper accountMapper,
+                        @Value("${api.ledger.account-cache.max-size:100000}") long maxSize) {
+        this.accountRepository = accountRepository;
+        this.accountMapper = accountMapper;
+        this.accounts = maxSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    /**
+     * Busca a conta pelo ID, consultando o banco apenas quando não está em cache.
+     *
+     * @param id O ID da conta.
+     * @return A conta, ou vazio se não existir.
+     */
+    public Optional<AccountResponseDTO> get(UUID id) {
+        if (accounts == null) {
+            return load(id);
+        }
+        AccountResponseDTO cached = accounts.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long stamp = writes.get();
+        Optional<AccountResponseDTO> loaded = load(id);
+        // Contas inexistentes não são guardadas.
+        loaded.ifPresent(account -> {
+            accounts.put(id, account);
+            if (writes.get() != stamp) {
+                accounts.asMap().remove(id, account);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * Grava o estado já confirmado da conta no cache.
+     *
+     * @param account A conta, como ficou após o commit.
+     */
+    public void put(AccountResponseDTO account) {
+        if (accounts != null) {
+            writes.incrementAndGet();
+            accounts.put(account.id(), account);
+        }
+    }
+
+    /**
+     * Remove as contas do cache, forçando a próxima leitura a recarregá-las do banco.
+     *
+     * @param ids Os IDs das contas.
+     */
+    public void invalidate(Collection<UUID> ids) {
+        if (accounts != null) {
+            writes.incrementAndGet();
+            accounts.invalidateAll(ids);
+        }
+    }
+
+    private Optional<AccountResponseDTO> load(UUID id) {
+        return ReplicaRoutingDataSource.onPrimary(() -> accountRepository.findById(id).map(accountMapper::toDTO));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (accounts == null) {
+            return;
+        }
+        CaffeineCacheMetrics.monitor(registry, accounts, "accounts");
+        Gauge.builder("ledger.account_cache.hit_ratio", accounts, cache -> cache.stats().hitRate())
+                .description("Fração das leituras de conta respondidas pelo cache")
+                .register(registry);
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.exception.InvalidRequestException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de leitura na listagem de contas (paginação por cursor / keyset).
+ *
+ * <p>Guarda o ID da última conta entregue; a próxima página começa estritamente depois
+ * dele na ordenação {@code id ASC}. Para o cliente o cursor é um token opaco
+ * (os 16 bytes do UUID em Base64 URL-safe).</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+record AccountCursor(UUID id) {
+
+    String encode() {
+        ByteBuffer raw = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.array());
+    }
+
+    /**
+     * Decodifica o token recebido do cliente.
+     *
+     * @throws InvalidRequestException Se o token não for um cursor válido.
+     */
+    static AccountCursor decode(String token) {
+        byte[] raw;
+        try {
+            raw = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Cursor de paginação inválido.");
+        }
+        if (raw.length != 16) {
+            throw new InvalidRequestException("Cursor de paginação inválido.");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(raw);
+        return new AccountCursor(new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
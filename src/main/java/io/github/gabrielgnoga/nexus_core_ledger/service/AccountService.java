@@ -2,24 +2,50 @@ package io.github.gabrielgnoga.nexus_core_ledger.service;
 
 import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
 import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.AccountPageDTO;
 import io.github.gabrielgnoga.nexus_core_ledger.dto.AccountResponseDTO;
 import io.github.gabrielgnoga.nexus_core_ledger.dto.CreateAccountDTO;
 import io.github.gabrielgnoga.nexus_core_ledger.mapper.AccountMapper;
 import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AccountService {
 
     private final AccountRepository accountRepository;
     private final AccountMapper accountMapper;
+    private final AccountCache accountCache;
+    private final ShardedPostingEngine postingEngine;
+
+    @Value("${api.ledger.accounts.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${api.ledger.accounts.max-page-size:500}")
+    private int maxPageSize;
+
+    /**
+     * Dá versão inicial às contas gravadas antes do {@code @Version}, para que aceitem lançamentos.
+     */
+    @PostConstruct
+    void initializeMissingVersions() {
+        int accounts = accountRepository.initializeMissingVersions();
+        if (accounts > 0) {
+            log.info("Versão inicial definida para {} contas gravadas sem controle de versão", accounts);
+        }
+    }
 
     // 1. CREATE
     public AccountResponseDTO createAccount(CreateAccountDTO dto) {
@@ -31,20 +57,55 @@ public class AccountService {
         return accountMapper.toDTO(savedAccount);
     }
 
-    // 2. LIST ALL
-    public List<AccountResponseDTO> listAllAccounts() {
-        return accountRepository.findAll().stream()
-                .map(accountMapper::toDTO)
-                .collect(Collectors.toList());
+    // 2. LIST (paginado por cursor, com filtros opcionais)
+    /**
+     * Lista as contas em páginas, opcionalmente filtradas por tipo e moeda.
+     *
+     * <p>Lê por projeção (DTO montado no SELECT) e busca uma linha a mais que o tamanho
+     * da página para saber se existe próxima, sem COUNT: o custo acompanha a página, não a tabela.</p>
+     *
+     * @param accountType Filtro por tipo de conta, ou {@code null} para todos.
+     * @param currency Filtro por moeda (ex.: "BRL"), ou {@code null} para todas.
+     * @param cursor Cursor opaco devolvido pela página anterior, ou {@code null} para a primeira.
+     * @param limit Tamanho da página; limitado a {@code api.ledger.accounts.max-page-size}.
+     * @return A página de contas e o cursor da próxima.
+     * @throws io.github.gabrielgnoga.nexus_core_ledger.exception.InvalidRequestException Se o cursor for inválido.
+     */
+    @Transactional(readOnly = true)
+    public AccountPageDTO listAccounts(AccountType accountType, String currency, String cursor, Integer limit) {
+        int pageSize = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        Limit fetch = Limit.of(pageSize + 1);
+        String currencyFilter = currency == null || currency.isBlank() ? null : currency.trim().toUpperCase(Locale.ROOT);
+
+        UUID after = cursor == null || cursor.isBlank() ? AccountRepository.BEFORE_FIRST : AccountCursor.decode(cursor).id();
+
+        List<AccountResponseDTO> items;
+        if (accountType != null && currencyFilter != null) {
+            items = accountRepository.findListingPageByTypeAndCurrency(accountType, currencyFilter, after, fetch);
+        } else if (accountType != null) {
+            items = accountRepository.findListingPageByType(accountType, after, fetch);
+        } else if (currencyFilter != null) {
+            items = accountRepository.findListingPageByCurrency(currencyFilter, after, fetch);
+        } else {
+            items = accountRepository.findListingPage(after, fetch);
+        }
+
+        String nextCursor = null;
+        if (items.size() > pageSize) {
+            items = items.subList(0, pageSize);
+            nextCursor = new AccountCursor(items.get(pageSize - 1).id()).encode();
+        }
+
+        return new AccountPageDTO(items, nextCursor);
     }
 
-    // 3. FIND BY ID
+    // 3. FIND BY ID (servido pelo AccountCache, mantido por write-through; faltas lidas do primário)
     public Optional<AccountResponseDTO> findAccountById(UUID id) {
-        return accountRepository.findById(id)
-                .map(accountMapper::toDTO);
+        return accountCache.get(id);
     }
 
-    // 4. UPDATE
+    // 4. UPDATE (transação de escrita: a conta e a sua versão são lidas do primário)
+    @Transactional
     public AccountResponseDTO updateAccount(UUID id, CreateAccountDTO dto) {
         Account account = accountRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Conta não encontrada."));
@@ -57,10 +118,15 @@ public class AccountService {
     }
 
     // 5. DELETE
+    @Transactional
     public void deleteAccount(UUID id) {
         if (!accountRepository.existsById(id)) {
             throw new IllegalArgumentException("Conta não encontrada.");
         }
+        if (postingEngine.isEnabled()) {
+            postingEngine.deleteAccount(id);
+            return;
+        }
         accountRepository.deleteById(id);
     }
 }
\ No newline at end of file
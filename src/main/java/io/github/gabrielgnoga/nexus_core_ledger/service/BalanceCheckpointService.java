@@ -0,0 +1,183 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.BalanceCheckpoint;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Transaction;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.BalanceAsOfDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.ResourceNotFoundException;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.BalanceCheckpointRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Serviço de checkpoints de saldo e de consultas de saldo em data passada ("as of").
+ *
+ * <p>Os checkpoints são gravados de duas formas:</p>
+ * <ul>
+ * <li>A cada N lançamentos de uma conta (contados pelo {@code chainSeq}), dentro da própria
+ * transação do lançamento, em todos os caminhos de escrita.</li>
+ * <li>Diariamente, para toda conta movimentada no dia anterior, com data de corte à meia-noite.</li>
+ * </ul>
+ *
+ * <p>Assim, responder "saldo da conta X na data D" custa uma leitura de checkpoint e a
+ * soma de no máximo um intervalo de checkpoints, e não de todo o histórico da conta.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Slf4j
+@Service
+public class BalanceCheckpointService {
+
+    private final BalanceCheckpointRepository checkpointRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long everyPostings;
+
+    public BalanceCheckpointService(BalanceCheckpointRepository checkpointRepository,
+                                    TransactionRepository transactionRepository,
+                                    AccountRepository accountRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${api.ledger.checkpoint.every-postings:1000}") long everyPostings) {
+        this.checkpointRepository = checkpointRepository;
+        this.transactionRepository = transactionRepository;
+        this.accountRepository = accountRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.everyPostings = everyPostings;
+    }
+
+    /**
+     * Grava um checkpoint para cada conta que atingiu mais N lançamentos.
+     *
+     * <p>Deve ser chamado dentro da transação do lançamento, depois de persistidas as
+     * transações (que recebem o {@code chainSeq}) e com o saldo das contas já atualizado.
+     * O contador é o {@code chainSeq} da conta, que só avança com lançamentos: alterações
+     * de nome ou tipo não contam, e um lote com várias transações da mesma conta conta
+     * cada uma delas.</p>
+     *
+     * @param transactions As transações lançadas, na ordem em que foram aplicadas.
+     */
+    public void onPostings(List<Transaction> transactions) {
+        if (everyPostings <= 0) {
+            return;
+        }
+        Map<UUID, Transaction> first = new HashMap<>();
+        Map<UUID, Transaction> last = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            first.putIfAbsent(transaction.getAccount().getId(), transaction);
+            last.put(transaction.getAccount().getId(), transaction);
+        }
+        last.forEach((accountId, transaction) -> onPostings(
+                accountId,
+                first.get(accountId).getChainSeq() - 1,
+                transaction.getChainSeq(),
+                transaction.getTimestamp(),
+                transaction.getAccount().getBalance()));
+    }
+
+    /**
+     * Grava um checkpoint se a conta passou por um múltiplo de N lançamentos entre
+     * {@code previousSeq} (exclusive) e {@code lastSeq} (inclusive).
+     *
+     * <p>Um intervalo que passa por mais de um múltiplo gera um único checkpoint, com o
+     * saldo após o último lançamento. Um checkpoint já gravado para o mesmo instante
+     * (reaplicação do diário do motor) não é gravado de novo.</p>
+     *
+     * @param accountId O ID da conta.
+     * @param previousSeq O {@code chainSeq} da conta antes dos lançamentos.
+     * @param lastSeq O {@code chainSeq} do último lançamento.
+     * @param asOf O timestamp do último lançamento.
+     * @param balance O saldo da conta após o último lançamento.
+     */
+    public void onPostings(UUID accountId, long previousSeq, long lastSeq, LocalDateTime asOf, Money balance) {
+        if (everyPostings <= 0 || lastSeq / everyPostings == previousSeq / everyPostings) {
+            return;
+        }
+        if (checkpointRepository.existsByAccountIdAndAsOf(accountId, asOf)) {
+            return;
+        }
+        checkpointRepository.save(BalanceCheckpoint.builder()
+                .accountId(accountId)
+                .asOf(asOf)
+                .balance(balance)
+                .build());
+    }
+
+    /**
+     * Calcula o saldo da conta em uma data de referência.
+     *
+     * <p>Parte do checkpoint mais recente com {@code asOf <= data} e soma apenas as
+     * transações posteriores a ele, até a data informada (inclusive).</p>
+     *
+     * @param accountId O ID da conta.
+     * @param asOf A data de referência.
+     * @return DTO com o saldo e o checkpoint usado.
+     * @throws ResourceNotFoundException Se o ID da conta não for encontrado.
+     */
+    @Transactional(readOnly = true)
+    public BalanceAsOfDTO balanceAsOf(UUID accountId, LocalDateTime asOf) {
+        if (!accountRepository.existsById(accountId)) {
+            throw new ResourceNotFoundException("Conta não encontrada com ID: " + accountId);
+        }
+
+        Optional<BalanceCheckpoint> checkpoint =
+                checkpointRepository.findFirstByAccountIdAndAsOfLessThanEqualOrderByAsOfDesc(accountId, asOf);
+
+        Money start = checkpoint.map(BalanceCheckpoint::getBalance).orElse(Money.ZERO);
+        TransactionRepository.PostingSum replay = checkpoint
+                .map(c -> transactionRepository.sumPostingsBetween(accountId, c.getAsOf(), asOf))
+                .orElseGet(() -> transactionRepository.sumPostingsUntil(accountId, asOf));
+
+        Money balance = start.plus(replay.net());
+        return new BalanceAsOfDTO(
+                accountId,
+                asOf,
+                balance.toBigDecimal(),
+                checkpoint.map(BalanceCheckpoint::getAsOf).orElse(null),
+                replay.count()
+        );
+    }
+
+    /**
+     * Grava o checkpoint diário (corte à meia-noite) das contas movimentadas no dia anterior.
+     *
+     * <p>O saldo do checkpoint é derivado das próprias transações (checkpoint anterior +
+     * reaplicação), e não do saldo atual da conta, para não incluir lançamentos feitos
+     * depois da meia-noite. Execuções repetidas no mesmo dia são ignoradas.</p>
+     */
+    @Scheduled(cron = "${api.ledger.checkpoint.daily-cron:0 5 0 * * *}")
+    public void checkpointPreviousDay() {
+        LocalDateTime cutoff = LocalDate.now().atStartOfDay();
+        List<UUID> accountIds = transactionRepository.findAccountIdsWithPostingsBetween(cutoff.minusDays(1), cutoff);
+
+        for (UUID accountId : accountIds) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (checkpointRepository.existsByAccountIdAndAsOf(accountId, cutoff)) {
+                    return;
+                }
+                checkpointRepository.save(BalanceCheckpoint.builder()
+                        .accountId(accountId)
+                        .asOf(cutoff)
+                        .balance(Money.of(balanceAsOf(accountId, cutoff).balance()))
+                        .build());
+            });
+        }
+        log.info("Checkpoints diários de saldo gravados para {} contas (corte {})", accountIds.size(), cutoff);
+    }
+}
@@ -0,0 +1,301 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.BalanceRollup;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TrialBalanceDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Totalizadores de saldo por tipo de conta e moeda, e o balancete servido a partir deles.
+ *
+ * <p>Cada alteração de conta soma a sua variação (saldo e quantidade de contas) no
+ * {@link BalanceRollup} do seu tipo e moeda, na mesma transação do lançamento. Assim, o
+ * balancete lê apenas (tipos × moedas × slots) linhas, qualquer que seja o número de contas.</p>
+ *
+ * <p>Concorrência:</p>
+ * <ul>
+ * <li>As contas são espalhadas entre {@code api.ledger.rollups.slots} linhas por par, para
+ * que lançamentos em contas diferentes raramente esperem pela mesma linha.</li>
+ * <li>As variações de uma transação são acumuladas e aplicadas uma única vez, antes do
+ * commit, sempre na mesma ordem (tipo, moeda, slot); duas transações nunca travam
+ * os mesmos slots em ordens opostas.</li>
+ * <li>Os slots de um par novo são criados em transação própria, e criações concorrentes
+ * do mesmo slot são ignoradas.</li>
+ * </ul>
+ *
+ * <p>Na inicialização, se ainda não houver totalizadores, eles são calculados a partir das
+ * contas existentes.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Slf4j
+@Service
+public class BalanceRollupService {
+
+    private static final String ADD = """
+            UPDATE balance_rollups SET balance = balance + ?, accounts = accounts + ?
+            WHERE account_type = ? AND currency = ? AND slot = ?
+            """;
+
+    private static final String CREATE_SLOT = """
+            INSERT INTO balance_rollups (account_type, currency, slot, balance, accounts)
+            SELECT ?, ?, ?, 0, 0
+            WHERE NOT EXISTS (SELECT 1 FROM balance_rollups WHERE account_type = ? AND currency = ? AND slot = ?)
+            """;
+
+    private static final String BACKFILL = """
+            INSERT INTO balance_rollups (account_type, currency, slot, balance, accounts)
+            SELECT account_type, currency, 0, SUM(balance), COUNT(*)
+            FROM accounts
+            GROUP BY account_type, currency
+            """;
+
+    private static final String REPORT = """
+            SELECT account_type, currency, SUM(balance) AS balance, SUM(accounts) AS accounts
+            FROM balance_rollups
+            GROUP BY account_type, currency
+            """;
+
+    private static final String REPORT_BY_CURRENCY = """
+            SELECT account_type, currency, SUM(balance) AS balance, SUM(accounts) AS accounts
+            FROM balance_rollups
+            WHERE currency = ?
+            GROUP BY account_type, currency
+            """;
+
+    private static final int ACCOUNTS_PER_QUERY = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final int slots;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BalanceRollupService(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${api.ledger.rollups.slots:16}") int slots) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.slots = Math.max(1, slots);
+    }
+
+    @PostConstruct
+    void backfill() {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM balance_rollups", Long.class);
+        if (rows != null && rows == 0) {
+            int pairs = jdbcTemplate.update(BACKFILL);
+            if (pairs > 0) {
+                log.info("Totalizadores de saldo calculados a partir das contas existentes: {} pares tipo/moeda", pairs);
+            }
+        }
+    }
+
+    /**
+     * Chave de um slot, ordenada por tipo, moeda e slot (a ordem em que as linhas são travadas).
+     */
+    private record Slot(AccountType accountType, String currency, int slot) implements Comparable<Slot> {
+
+        private static final Comparator<Slot> ORDER = Comparator.comparing(Slot::accountType)
+                .thenComparing(Slot::currency)
+                .thenComparingInt(Slot::slot);
+
+        @Override
+        public int compareTo(Slot other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * Variação acumulada de um slot: saldo (em unidades mínimas) e quantidade de contas.
+     */
+    private static final class Delta {
+        private long balance;
+        private long accounts;
+    }
+
+    /**
+     * Registra a transação corrente para aplicar, antes do commit, as variações acumuladas.
+     *
+     * @return {@code false} se não houver transação de escrita ativa.
+     */
+    public boolean track() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return true;
+        }
+        SortedMap<Slot, Delta> pending = new TreeMap<>();
+        TransactionSynchronizationManager.bindResource(this, pending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // O último flush do JPA só aconteceria no commit, depois deste ponto.
+                try {
+                    entityManager.flush();
+                } catch (RuntimeException e) {
+                    // Traduzida como no commit (ex.: conflito de versão -> OptimisticLockingFailureException).
+                    RuntimeException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(e);
+                    throw translated != null ? translated : e;
+                }
+                apply(pending);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(BalanceRollupService.this);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Acumula a mudança de uma conta entre dois estados.
+     *
+     * @param accountId O ID da conta (define o slot).
+     * @param previous O estado gravado antes, ou {@code null} se a conta acabou de ser criada.
+     * @param current O estado novo, ou {@code null} se a conta foi removida.
+     */
+    @SuppressWarnings("unchecked")
+    public void record(UUID accountId, Account.Snapshot previous, Account.Snapshot current) {
+        if (track()) {
+            add((SortedMap<Slot, Delta>) TransactionSynchronizationManager.getResource(this),
+                    accountId, previous, current);
+        } else {
+            SortedMap<Slot, Delta> now = new TreeMap<>();
+            add(now, accountId, previous, current);
+            apply(now);
+        }
+    }
+
+    /**
+     * Aplica os novos saldos gravados por SQL, fora do listener JPA (motor de lançamentos).
+     *
+     * <p>Deve ser chamado dentro da transação da gravação, antes de atualizar os saldos:
+     * a variação é calculada contra o saldo ainda gravado em cada conta.</p>
+     *
+     * @param balances O novo saldo de cada conta alterada.
+     */
+    public void applyBalances(Map<UUID, Money> balances) {
+        SortedMap<Slot, Delta> pending = new TreeMap<>();
+        List<UUID> ids = new ArrayList<>(balances.keySet());
+        for (int from = 0; from < ids.size(); from += ACCOUNTS_PER_QUERY) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + ACCOUNTS_PER_QUERY, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT id, account_type, currency, balance FROM accounts WHERE id IN (" + placeholders + ")",
+                    rs -> {
+                        UUID id = rs.getObject("id", UUID.class);
+                        AccountType type = AccountType.valueOf(rs.getString("account_type"));
+                        String currency = rs.getString("currency");
+                        add(pending, id,
+                                new Account.Snapshot(type, currency, Money.of(rs.getBigDecimal("balance"))),
+                                new Account.Snapshot(type, currency, balances.get(id)));
+                    },
+                    chunk.toArray());
+        }
+        apply(pending);
+    }
+
+    /**
+     * Balancete por tipo de conta e moeda, lido dos totalizadores.
+     *
+     * @param currency Filtro por moeda (ex.: "BRL"), ou {@code null} para todas.
+     * @return Uma linha por tipo e moeda com contas, ordenada por moeda e tipo.
+     */
+    @Transactional(readOnly = true)
+    public TrialBalanceDTO trialBalance(String currency) {
+        List<TrialBalanceDTO.Line> lines = new ArrayList<>();
+        jdbcTemplate.query(currency == null ? REPORT : REPORT_BY_CURRENCY,
+                rs -> {
+                    long accounts = rs.getLong("accounts");
+                    if (accounts != 0) {
+                        lines.add(new TrialBalanceDTO.Line(
+                                AccountType.valueOf(rs.getString("account_type")),
+                                rs.getString("currency"),
+                                accounts,
+                                Money.of(rs.getBigDecimal("balance")).toBigDecimal()));
+                    }
+                },
+                currency == null ? new Object[0] : new Object[]{currency});
+        lines.sort(Comparator.comparing(TrialBalanceDTO.Line::currency).thenComparing(TrialBalanceDTO.Line::accountType));
+        return new TrialBalanceDTO(LocalDateTime.now(), lines);
+    }
+
+    private void add(SortedMap<Slot, Delta> pending, UUID accountId,
+                     Account.Snapshot previous, Account.Snapshot current) {
+        int slot = Math.floorMod(accountId.hashCode(), slots);
+        if (previous != null) {
+            Delta delta = pending.computeIfAbsent(new Slot(previous.accountType(), previous.currency(), slot), k -> new Delta());
+            delta.balance -= previous.balance().minorUnits();
+            delta.accounts--;
+        }
+        if (current != null) {
+            Delta delta = pending.computeIfAbsent(new Slot(current.accountType(), current.currency(), slot), k -> new Delta());
+            delta.balance += current.balance().minorUnits();
+            delta.accounts++;
+        }
+    }
+
+    private void apply(SortedMap<Slot, Delta> pending) {
+        pending.forEach((key, delta) -> {
+            if (delta.balance == 0 && delta.accounts == 0) {
+                return;
+            }
+            if (add(key, delta) == 0) {
+                createSlots(key.accountType(), key.currency());
+                if (add(key, delta) == 0) {
+                    throw new IllegalStateException("Totalizador inexistente para " + key);
+                }
+            }
+        });
+        pending.clear();
+    }
+
+    private int add(Slot key, Delta delta) {
+        return jdbcTemplate.update(ADD, new Money(delta.balance).toBigDecimal(), delta.accounts,
+                key.accountType().name(), key.currency(), key.slot());
+    }
+
+    private void createSlots(AccountType accountType, String currency) {
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                for (int slot = 0; slot < slots; slot++) {
+                    jdbcTemplate.update(CREATE_SLOT, accountType.name(), currency, slot, accountType.name(), currency, slot);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Outra transação criou os mesmos slots ao mesmo tempo; eles já estão gravados.
+            log.debug("Slots de {}/{} criados por outra transação", accountType, currency, e);
+        }
+    }
+}
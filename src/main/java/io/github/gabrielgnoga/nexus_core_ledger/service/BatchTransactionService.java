@@ -0,0 +1,231 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Transaction;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.BatchItemResultDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.BatchMode;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.BatchTransactionResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.AmountOutOfRangeException;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.InsufficientBalanceException;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.InvalidRequestException;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.ResourceNotFoundException;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.TransactionRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço responsável pelo lançamento de transações em lote.
+ *
+ * <p>Todos os itens são aplicados em uma única transação de banco. As contas envolvidas
+ * são carregadas uma única vez por lote e os INSERTs são agrupados pelo batching JDBC
+ * do Hibernate ({@code hibernate.jdbc.batch_size}).</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Service
+public class BatchTransactionService {
+
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final ShardedPostingEngine postingEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final OptimisticRetryExecutor optimisticRetry;
+    private final TransactionOutbox transactionOutbox;
+    private final BalanceCheckpointService balanceCheckpointService;
+    private final Validator validator;
+
+    private final BatchMode defaultMode;
+    private final int maxSize;
+
+    public BatchTransactionService(TransactionRepository transactionRepository,
+                                   AccountRepository accountRepository,
+                                   ShardedPostingEngine postingEngine,
+                                   TransactionTemplate transactionTemplate,
+                                   OptimisticRetryExecutor optimisticRetry,
+                                   TransactionOutbox transactionOutbox,
+                                   BalanceCheckpointService balanceCheckpointService,
+                                   Validator validator,
+                                   @Value("${api.ledger.batch.default-mode:ALL_OR_NOTHING}") BatchMode defaultMode,
+                                   @Value("${api.ledger.batch.max-size:5000}") int maxSize) {
+        this.transactionRepository = transactionRepository;
+        this.accountRepository = accountRepository;
+        this.postingEngine = postingEngine;
+        this.transactionTemplate = transactionTemplate;
+        this.optimisticRetry = optimisticRetry;
+        this.transactionOutbox = transactionOutbox;
+        this.balanceCheckpointService = balanceCheckpointService;
+        this.validator = validator;
+        this.defaultMode = defaultMode;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Processa um lote de transações, devolvendo o resultado de cada item.
+     *
+     * <p>No modo {@link BatchMode#ALL_OR_NOTHING}, qualquer item rejeitado desfaz o lote
+     * inteiro e os itens válidos são reportados como {@code ROLLED_BACK}. No modo
+     * {@link BatchMode#PARTIAL}, apenas os itens válidos são gravados.</p>
+     *
+     * <p>Com o motor de lançamentos em memória ativo, os itens são aplicados um a um pelos
+     * shards, e por isso somente o modo PARTIAL é aceito.</p>
+     *
+     * @param items Os itens do lote, na ordem em que devem ser aplicados.
+     * @param mode O modo de falha, ou {@code null} para usar o padrão configurado.
+     * @return DTO com o resultado consolidado e individual.
+     * @throws InvalidRequestException Se o lote estiver vazio, acima do limite ou o modo não for suportado.
+     */
+    public BatchTransactionResponseDTO createBatch(List<TransactionRequestDTO> items, BatchMode mode) {
+        BatchMode effectiveMode = mode != null ? mode : defaultMode;
+
+        if (items == null || items.isEmpty()) {
+            throw new InvalidRequestException("O lote deve conter ao menos uma transação.");
+        }
+        if (items.size() > maxSize) {
+            throw new InvalidRequestException("O lote excede o limite de " + maxSize + " transações.");
+        }
+
+        if (postingEngine.isEnabled()) {
+            if (effectiveMode != BatchMode.PARTIAL) {
+                throw new InvalidRequestException("Com o motor de lançamentos ativo, apenas o modo PARTIAL é suportado.");
+            }
+            return postThroughEngine(items);
+        }
+
+        return optimisticRetry.execute(() -> transactionTemplate.execute(status -> {
+            BatchTransactionResponseDTO response = post(items, effectiveMode);
+            if (!response.committed()) {
+                status.setRollbackOnly();
+            }
+            return response;
+        }));
+    }
+
+    private BatchTransactionResponseDTO post(List<TransactionRequestDTO> items, BatchMode mode) {
+        Set<UUID> accountIds = new HashSet<>();
+        for (TransactionRequestDTO item : items) {
+            if (item != null && item.accountId() != null) {
+                accountIds.add(item.accountId());
+            }
+        }
+        Map<UUID, Account> accounts = accountRepository.findAllById(accountIds).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+
+        List<BatchItemResultDTO> results = new ArrayList<>(items.size());
+        List<Transaction> transactions = new ArrayList<>(items.size());
+        int rejected = 0;
+
+        for (int i = 0; i < items.size(); i++) {
+            TransactionRequestDTO item = items.get(i);
+
+            String error = validate(item);
+            Account account = error == null ? accounts.get(item.accountId()) : null;
+            if (error == null && account == null) {
+                error = "Conta não encontrada com ID: " + item.accountId();
+            }
+
+            Money amount = null;
+            if (error == null) {
+                Money balance = account.getBalance() == null ? Money.ZERO : account.getBalance();
+                try {
+                    amount = Money.of(item.amount());
+                    account.setBalance(TransactionService.applyPosting(balance, item.type(), amount));
+                } catch (InsufficientBalanceException | AmountOutOfRangeException e) {
+                    error = e.getMessage();
+                }
+            }
+
+            if (error != null) {
+                rejected++;
+                results.add(BatchItemResultDTO.rejected(i, error));
+                continue;
+            }
+
+            Transaction transaction = new Transaction();
+            transaction.setAmount(amount);
+            transaction.setType(item.type());
+            transaction.setDescription(item.description());
+            transaction.setTimestamp(Transaction.currentTimestamp());
+            transaction.setAccount(account);
+            transactions.add(transaction);
+            results.add(null);
+        }
+
+        if (mode == BatchMode.ALL_OR_NOTHING && rejected > 0) {
+            List<BatchItemResultDTO> rolledBack = new ArrayList<>(results.size());
+            for (int i = 0; i < results.size(); i++) {
+                BatchItemResultDTO result = results.get(i);
+                rolledBack.add(result == null ? BatchItemResultDTO.rolledBack(i) : result);
+            }
+            return new BatchTransactionResponseDTO(mode, false, 0, rejected, rolledBack);
+        }
+
+        // As contas são entidades gerenciadas: os novos saldos são gravados no flush do commit.
+        transactionRepository.saveAll(transactions);
+        transactionOutbox.append(transactions);
+        balanceCheckpointService.onPostings(transactions);
+
+        int next = 0;
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) == null) {
+                results.set(i, BatchItemResultDTO.accepted(i, TransactionResponseDTO.fromEntity(transactions.get(next++))));
+            }
+        }
+        return new BatchTransactionResponseDTO(mode, true, transactions.size(), rejected, results);
+    }
+
+    private BatchTransactionResponseDTO postThroughEngine(List<TransactionRequestDTO> items) {
+        List<BatchItemResultDTO> results = new ArrayList<>(items.size());
+        int rejected = 0;
+        for (int i = 0; i < items.size(); i++) {
+            TransactionRequestDTO item = items.get(i);
+            String error = validate(item);
+            if (error == null) {
+                try {
+                    results.add(BatchItemResultDTO.accepted(i, postingEngine.post(item)));
+                    continue;
+                } catch (ResourceNotFoundException | InsufficientBalanceException | AmountOutOfRangeException e) {
+                    error = e.getMessage();
+                }
+            }
+            rejected++;
+            results.add(BatchItemResultDTO.rejected(i, error));
+        }
+        return new BatchTransactionResponseDTO(BatchMode.PARTIAL, true, items.size() - rejected, rejected, results);
+    }
+
+    /**
+     * Aplica as validações do {@link TransactionRequestDTO} a um item isolado.
+     *
+     * @return A mensagem de erro, ou {@code null} se o item for válido.
+     */
+    private String validate(TransactionRequestDTO item) {
+        if (item == null) {
+            return "Item nulo";
+        }
+        Set<ConstraintViolation<TransactionRequestDTO>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
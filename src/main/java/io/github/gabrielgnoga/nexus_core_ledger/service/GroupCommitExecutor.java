@@ -0,0 +1,250 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Estágio de commit em grupo (group commit) para os lançamentos do caminho JPA.
+ *
+ * <p>Em vez de cada requisição pagar o seu próprio commit (e o fsync do banco), as
+ * operações que chegam ao mesmo tempo são reunidas por até {@code max-wait-micros}
+ * ou {@code max-batch-size} itens e executadas em sequência dentro de uma única
+ * transação, com um único flush (inserções em lote) e um único commit.</p>
+ *
+ * <p>Cada chamador continua recebendo o seu próprio resultado:</p>
+ * <ul>
+ * <li>Uma exceção lançada pela operação de um item (ex.: saldo insuficiente) vai apenas
+ * para aquele chamador; as operações devem falhar antes de alterar qualquer entidade.</li>
+ * <li>Se o commit do grupo falhar (ex.: conflito de versão com um lançamento de fora do
+ * grupo), nenhum item é confirmado e cada chamador executa a sua operação de reserva,
+ * individualmente, na própria thread. O mesmo vale para um {@link Error} no grupo e para
+ * chamadas feitas com o executor parado.</li>
+ * </ul>
+ *
+ * <p>Vazão × latência: {@code max-wait-micros} maior forma grupos maiores (menos commits)
+ * e aumenta a latência de cada lançamento; {@code committers} define quantos grupos podem
+ * estar em commit ao mesmo tempo. Modo opcional, ativado por
+ * {@code api.ledger.group-commit.enabled=true}; métricas em {@code ledger.group_commit.*}.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Slf4j
+@Component
+public class GroupCommitExecutor implements MeterBinder {
+
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final int committerCount;
+
+    private final BlockingQueue<Item<?>> queue = new LinkedBlockingQueue<>();
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder items = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    private List<Thread> committers = List.of();
+    private volatile boolean running;
+
+    /**
+     * Operação aguardando o commit do grupo.
+     */
+    private static final class Item<T> {
+        private final Supplier<T> work;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private T value;
+        private RuntimeException failure;
+
+        Item(Supplier<T> work) {
+            this.work = work;
+        }
+
+        void run() {
+            try {
+                value = work.get();
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        void complete() {
+            if (failure == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * Sinaliza ao chamador que o grupo não foi confirmado e a operação deve ser refeita sozinha.
+     */
+    private static final class GroupRolledBack extends RuntimeException {
+        GroupRolledBack(Throwable cause) {
+            super(null, cause, false, false);
+        }
+    }
+
+    public GroupCommitExecutor(TransactionTemplate transactionTemplate,
+                               @Value("${api.ledger.group-commit.enabled:false}") boolean enabled,
+                               @Value("${api.ledger.group-commit.max-batch-size:64}") int maxBatchSize,
+                               @Value("${api.ledger.group-commit.max-wait-micros:200}") long maxWaitMicros,
+                               @Value("${api.ledger.group-commit.committers:1}") int committerCount) {
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxWaitNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(0, maxWaitMicros));
+        this.committerCount = Math.max(1, committerCount);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        List<Thread> threads = new ArrayList<>(committerCount);
+        for (int i = 0; i < committerCount; i++) {
+            Thread thread = new Thread(this::commitLoop, "group-commit-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        committers = threads;
+        log.info("Commit em grupo ativo: até {} itens ou {} µs por grupo, {} committer(s)",
+                maxBatchSize, TimeUnit.NANOSECONDS.toMicros(maxWaitNanos), committerCount);
+    }
+
+    /**
+     * Encerra os committers; itens ainda na fila são devolvidos aos chamadores para execução individual.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        for (Thread committer : committers) {
+            committer.interrupt();
+            committer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        List<Item<?>> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(item -> item.result.completeExceptionally(new GroupRolledBack(null)));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Executa a operação dentro do próximo grupo e aguarda o commit.
+     *
+     * @param work A operação, executada na thread do committer, dentro da transação do grupo.
+     * @param fallback A operação executada na thread do chamador se o grupo não for confirmado;
+     *                 deve abrir a sua própria transação.
+     * @return O resultado da operação, já confirmado no banco (ou pela reserva, se o
+     *         executor estiver parado).
+     */
+    public <T> T execute(Supplier<T> work, Supplier<T> fallback) {
+        if (!running) {
+            fallbacks.increment();
+            return fallback.get();
+        }
+        Item<T> item = new Item<>(work);
+        queue.add(item);
+        // O stop() pode ter esvaziado a fila entre a verificação e o add: ninguém mais consumiria o item.
+        if (!running && queue.remove(item)) {
+            fallbacks.increment();
+            return fallback.get();
+        }
+        try {
+            return item.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof GroupRolledBack) {
+                fallbacks.increment();
+                return fallback.get();
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void commitLoop() {
+        List<Item<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    // Primeiro o que já está na fila; depois espera o restante da janela.
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    Item<?> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                batch.forEach(item -> item.result.completeExceptionally(new GroupRolledBack(e)));
+                return;
+            }
+            commit(batch);
+            batch.clear();
+        }
+    }
+
+    private void commit(List<Item<?>> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(Item::run));
+        } catch (Throwable e) {
+            // Inclui Error: o committer segue vivo e nenhum chamador fica esperando um grupo perdido.
+            if (e instanceof Error) {
+                log.error("Commit do grupo de {} itens falhou; itens serão refeitos individualmente", batch.size(), e);
+            } else {
+                log.debug("Commit do grupo de {} itens falhou; itens serão refeitos individualmente", batch.size(), e);
+            }
+            batch.forEach(item -> item.result.completeExceptionally(new GroupRolledBack(e)));
+            return;
+        }
+        commits.increment();
+        items.add(batch.size());
+        batch.forEach(Item::complete);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("ledger.group_commit.commits", commits, LongAdder::sum)
+                .description("Transações de banco confirmadas pelo commit em grupo")
+                .register(registry);
+        FunctionCounter.builder("ledger.group_commit.items", items, LongAdder::sum)
+                .description("Operações confirmadas dentro de grupos")
+                .register(registry);
+        FunctionCounter.builder("ledger.group_commit.fallbacks", fallbacks, LongAdder::sum)
+                .description("Operações refeitas individualmente após falha no commit do grupo")
+                .register(registry);
+    }
+}
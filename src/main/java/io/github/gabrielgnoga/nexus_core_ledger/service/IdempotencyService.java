@@ -0,0 +1,231 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.IdempotencyKey;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.InvalidRequestException;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.IdempotencyKeyRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Serviço de idempotência dos lançamentos ({@code Idempotency-Key}).
+ *
+ * <p>O resultado de cada lançamento feito com chave é gravado na tabela
+ * {@code idempotency_keys}, na mesma transação de banco do lançamento, e mantido em um
+ * cache em memória limitado por tamanho e por tempo de vida. Uma repetição da chave é
+ * respondida pelo cache ou, na falta dele, pela tabela, sem ler a conta nem alterar saldo.</p>
+ *
+ * <p>Requisições simultâneas com a mesma chave na mesma instância aguardam a primeira;
+ * entre instâncias, a chave primária da tabela garante que apenas um lançamento seja gravado.
+ * Lançamentos rejeitados (ex: saldo insuficiente) não são gravados e podem ser repetidos.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyRepository repository;
+    private final long retentionHours;
+    private final Cache<String, Entry> cache;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public IdempotencyService(IdempotencyKeyRepository repository,
+                              @Value("${api.ledger.idempotency.cache-max-size:100000}") long cacheMaxSize,
+                              @Value("${api.ledger.idempotency.cache-ttl-seconds:600}") long cacheTtlSeconds,
+                              @Value("${api.ledger.idempotency.retention-hours:24}") long retentionHours) {
+        this.repository = repository;
+        this.retentionHours = retentionHours;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+    }
+
+    /** Resultado gravado de uma chave, com o hash da requisição original. */
+    private record Entry(String requestHash, TransactionResponseDTO response) {}
+
+    /** Lançamento em andamento para uma chave nesta instância. */
+    private record InFlight(String requestHash, CompletableFuture<TransactionResponseDTO> result) {}
+
+    /**
+     * Executa o lançamento uma única vez por chave.
+     *
+     * @param key O valor do cabeçalho {@code Idempotency-Key}.
+     * @param data A requisição do lançamento.
+     * @param posting O lançamento propriamente dito; deve chamar {@link #record} na sua transação.
+     * @return A resposta do lançamento original, se a chave já foi usada, ou a do novo lançamento.
+     * @throws InvalidRequestException Se a chave for inválida ou já tiver sido usada com outro conteúdo.
+     */
+    public TransactionResponseDTO execute(String key, TransactionRequestDTO data, Supplier<TransactionResponseDTO> posting) {
+        validateKey(key);
+        String requestHash = hash(data);
+
+        TransactionResponseDTO replay = lookup(key, requestHash);
+        if (replay != null) {
+            return replay;
+        }
+
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(key, requestHash, running);
+        }
+
+        try {
+            // Pode ter sido concluída entre a consulta e o registro em andamento.
+            TransactionResponseDTO response = lookup(key, requestHash);
+            if (response == null) {
+                response = postOnce(key, requestHash, posting);
+            }
+            mine.result().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Grava a chave com o resultado do lançamento.
+     *
+     * <p>Deve ser chamado dentro da transação do lançamento: se a chave já existir, o
+     * INSERT falha no commit e o lançamento inteiro é desfeito.</p>
+     *
+     * @param key O valor do cabeçalho {@code Idempotency-Key}.
+     * @param data A requisição do lançamento.
+     * @param response A resposta do lançamento.
+     */
+    public void record(String key, TransactionRequestDTO data, TransactionResponseDTO response) {
+        entityManager.persist(IdempotencyKey.builder()
+                .key(key)
+                .requestHash(hash(data))
+                .transactionId(response.id())
+                .accountId(response.accountId())
+                .amount(response.amount())
+                .type(response.type())
+                .description(response.description())
+                .transactionTimestamp(response.timestamp())
+                .build());
+    }
+
+    /**
+     * Remove as chaves mais antigas que o período de retenção configurado.
+     */
+    @Scheduled(fixedDelayString = "${api.ledger.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int removed = repository.deleteCreatedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (removed > 0) {
+            log.info("{} chaves de idempotência expiradas removidas", removed);
+        }
+    }
+
+    private TransactionResponseDTO postOnce(String key, String requestHash, Supplier<TransactionResponseDTO> posting) {
+        TransactionResponseDTO response;
+        try {
+            response = posting.get();
+        } catch (DataIntegrityViolationException e) {
+            // Outra instância gravou a mesma chave ao mesmo tempo: devolve o resultado dela.
+            TransactionResponseDTO stored = lookup(key, requestHash);
+            if (stored == null) {
+                throw e;
+            }
+            return stored;
+        }
+        cache.put(key, new Entry(requestHash, response));
+        return response;
+    }
+
+    private TransactionResponseDTO lookup(String key, String requestHash) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            entry = repository.findById(key)
+                    .map(k -> new Entry(k.getRequestHash(), toResponse(k)))
+                    .orElse(null);
+            if (entry == null) {
+                return null;
+            }
+            cache.put(key, entry);
+        }
+        checkSameRequest(entry.requestHash(), requestHash);
+        return entry.response();
+    }
+
+    private TransactionResponseDTO await(String key, String requestHash, InFlight running) {
+        checkSameRequest(running.requestHash(), requestHash);
+        try {
+            return running.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void checkSameRequest(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new InvalidRequestException("A Idempotency-Key informada já foi usada com outra requisição.");
+        }
+    }
+
+    private static void validateKey(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException("A Idempotency-Key deve ter entre 1 e " + MAX_KEY_LENGTH + " caracteres.");
+        }
+    }
+
+    private static TransactionResponseDTO toResponse(IdempotencyKey key) {
+        return new TransactionResponseDTO(
+                key.getTransactionId(),
+                key.getAmount(),
+                key.getType(),
+                key.getTransactionTimestamp(),
+                key.getDescription(),
+                key.getAccountId()
+        );
+    }
+
+    /**
+     * Hash SHA-256 do conteúdo relevante da requisição (o valor é normalizado, então
+     * "10" e "10.00" são a mesma requisição).
+     */
+    static String hash(TransactionRequestDTO data) {
+        String canonical = data.accountId() + "|" + data.amount().stripTrailingZeros().toPlainString()
+                + "|" + data.type() + "|" + (data.description() == null ? "" : data.description());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Transaction;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.UuidV7Generator;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.JournalEntryRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.JournalEntryResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.JournalLegDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.InsufficientBalanceException;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.InvalidRequestException;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.ResourceNotFoundException;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Serviço de lançamentos contábeis com várias pernas (partida dobrada).
+ *
+ * <p>Todas as pernas de um lançamento são gravadas em uma única transação de banco:
+ * ou todas as contas são movimentadas, ou nenhuma. As contas são travadas com
+ * {@code SELECT ... FOR UPDATE} sempre em ordem crescente de UUID, de modo que duas
+ * transferências simultâneas em sentidos opostos (A→B e B→A) esperam uma pela outra
+ * em vez de entrarem em deadlock.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class JournalEntryService {
+
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final ShardedPostingEngine postingEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final BalanceCheckpointService balanceCheckpointService;
+    private final TransactionOutbox transactionOutbox;
+
+    /**
+     * Grava um lançamento contábil balanceado.
+     *
+     * <p>O total de débitos deve ser igual ao total de créditos em cada moeda envolvida.
+     * Cada perna segue a mesma regra de saldo dos lançamentos avulsos
+     * ({@link TransactionService#applyPosting}).</p>
+     *
+     * @param data DTO com a descrição e as pernas do lançamento.
+     * @return DTO com o ID do lançamento e as transações geradas.
+     * @throws InvalidRequestException Se o lançamento não estiver balanceado ou o motor em memória estiver ativo.
+     * @throws ResourceNotFoundException Se alguma conta não for encontrada.
+     * @throws InsufficientBalanceException Se alguma perna de débito deixar a conta sem saldo.
+     */
+    public JournalEntryResponseDTO create(JournalEntryRequestDTO data) {
+        if (postingEngine.isEnabled()) {
+            throw new InvalidRequestException("Lançamentos com várias pernas não são suportados com o motor de lançamentos ativo.");
+        }
+        if (data.legs() == null || data.legs().size() < 2) {
+            throw new InvalidRequestException("O lançamento deve ter ao menos duas pernas.");
+        }
+        return transactionTemplate.execute(status -> post(data));
+    }
+
+    private JournalEntryResponseDTO post(JournalEntryRequestDTO data) {
+        Map<UUID, Account> accounts = lockAccounts(data.legs());
+        checkBalanced(data.legs(), accounts);
+
+        UUID entryId = UuidV7Generator.next();
+        LocalDateTime timestamp = Transaction.currentTimestamp();
+        List<Transaction> transactions = new ArrayList<>(data.legs().size());
+
+        for (JournalLegDTO leg : data.legs()) {
+            Account account = accounts.get(leg.accountId());
+            Money amount = Money.of(leg.amount());
+            Money balance = account.getBalance() == null ? Money.ZERO : account.getBalance();
+            account.setBalance(TransactionService.applyPosting(balance, leg.type(), amount));
+
+            Transaction transaction = new Transaction();
+            transaction.setAmount(amount);
+            transaction.setType(leg.type());
+            transaction.setDescription(data.description());
+            transaction.setTimestamp(timestamp);
+            transaction.setAccount(account);
+            transaction.setJournalEntryId(entryId);
+            transactions.add(transaction);
+        }
+
+        transactionRepository.saveAll(transactions);
+        transactionOutbox.append(transactions);
+
+        balanceCheckpointService.onPostings(transactions);
+
+        return new JournalEntryResponseDTO(
+                entryId,
+                data.description(),
+                timestamp,
+                transactions.stream().map(TransactionResponseDTO::fromEntity).toList()
+        );
+    }
+
+    /**
+     * Trava as contas das pernas em ordem crescente de UUID.
+     *
+     * <p>A ordem fixa garante que nenhum par de lançamentos concorrentes adquira os mesmos
+     * locks em ordens diferentes, eliminando a espera circular.</p>
+     */
+    private Map<UUID, Account> lockAccounts(List<JournalLegDTO> legs) {
+        TreeSet<UUID> ids = new TreeSet<>();
+        for (JournalLegDTO leg : legs) {
+            if (leg == null || leg.accountId() == null) {
+                throw new InvalidRequestException("Todas as pernas devem informar a conta.");
+            }
+            ids.add(leg.accountId());
+        }
+
+        Map<UUID, Account> accounts = new HashMap<>();
+        for (UUID id : ids) {
+            Account account = accountRepository.findByIdForUpdate(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Conta não encontrada com ID: " + id));
+            accounts.put(id, account);
+        }
+        return accounts;
+    }
+
+    /**
+     * Confere que, em cada moeda, o total de débitos é igual ao total de créditos.
+     */
+    private void checkBalanced(List<JournalLegDTO> legs, Map<UUID, Account> accounts) {
+        Map<String, Money> netByCurrency = new HashMap<>();
+        for (JournalLegDTO leg : legs) {
+            if (leg.amount() == null || leg.amount().signum() <= 0 || leg.type() == null) {
+                throw new InvalidRequestException("Todas as pernas devem ter valor positivo e tipo.");
+            }
+            Money amount = Money.of(leg.amount());
+            Money signed = leg.type() == TransactionType.CREDIT ? amount : amount.negate();
+            netByCurrency.merge(accounts.get(leg.accountId()).getCurrency(), signed, Money::plus);
+        }
+
+        netByCurrency.forEach((currency, net) -> {
+            if (net.signum() != 0) {
+                throw new InvalidRequestException(
+                        "Lançamento desbalanceado na moeda " + currency + ": diferença entre créditos e débitos de " + net);
+            }
+        });
+    }
+}
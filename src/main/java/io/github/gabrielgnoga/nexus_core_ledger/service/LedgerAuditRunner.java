@@ -0,0 +1,71 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.dto.LedgerAuditJobDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Executa a auditoria completa do ledger ({@link LedgerIntegrityVerifier#verifyAll()}) em
+ * segundo plano, uma execução por vez.
+ *
+ * <p>A auditoria recalcula o hash de todos os lançamentos, com várias threads lendo o banco.
+ * Por isso a requisição apenas inicia a execução numa thread própria e devolve o seu ID;
+ * pedidos feitos enquanto ela roda recebem a mesma execução em vez de iniciar outra. O
+ * resultado da última execução fica disponível até a próxima.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Slf4j
+@Service
+public class LedgerAuditRunner {
+
+    private final LedgerIntegrityVerifier verifier;
+    private final AtomicReference<LedgerAuditJobDTO> last = new AtomicReference<>();
+
+    public LedgerAuditRunner(LedgerIntegrityVerifier verifier) {
+        this.verifier = verifier;
+    }
+
+    /**
+     * Inicia uma auditoria completa, salvo se já houver uma em andamento.
+     *
+     * @return A execução iniciada, ou a que já estava em andamento.
+     */
+    public LedgerAuditJobDTO start() {
+        LedgerAuditJobDTO job = LedgerAuditJobDTO.running(UUID.randomUUID(), LocalDateTime.now());
+        LedgerAuditJobDTO previous;
+        do {
+            previous = last.get();
+            if (previous != null && previous.status() == LedgerAuditJobDTO.Status.RUNNING) {
+                return previous;
+            }
+        } while (!last.compareAndSet(previous, job));
+
+        Thread thread = new Thread(() -> run(job), "ledger-audit");
+        thread.setDaemon(true);
+        thread.start();
+        return job;
+    }
+
+    /**
+     * @return A execução em andamento ou a última terminada, se houver.
+     */
+    public Optional<LedgerAuditJobDTO> last() {
+        return Optional.ofNullable(last.get());
+    }
+
+    private void run(LedgerAuditJobDTO job) {
+        try {
+            last.set(job.completed(verifier.verifyAll(), LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.error("Auditoria do ledger {} interrompida", job.id(), e);
+            last.set(job.failed(e.getMessage(), LocalDateTime.now()));
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.ChainAnchor;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.PostingChain;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.LedgerAuditDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Verificador de integridade do ledger pelas cadeias de hashes dos lançamentos (ver {@link PostingChain}).
+ *
+ * <p>As contas são lidas em páginas (keyset pelo ID) e cada página é dividida em um
+ * {@link ForkJoinPool} até grupos pequenos de contas, verificados em paralelo. As transações
+ * de cada conta são percorridas em ordem de {@code chain_seq} por cursor, recalculando cada
+ * hash, sem carregar o histórico em memória: o consumo fica limitado a uma página de contas
+ * e ao buffer de leitura de cada thread.</p>
+ *
+ * <p>A ponta da cadeia é lida junto com a conta e apenas os lançamentos até ela são
+ * verificados, de modo que a auditoria pode rodar com lançamentos em andamento. Ponta e
+ * lançamentos de cada conta são lidos na mesma transação somente leitura, com leitura
+ * repetível: vêm da mesma fonte (a réplica, quando configurada) e do mesmo instante, e um
+ * atraso da réplica não aparece como cadeia truncada.</p>
+ *
+ * <p>Contas cujos lançamentos mais antigos saíram pela retenção de partições são verificadas
+ * a partir da âncora gravada em {@code chain_anchors} ({@link ChainAnchor}).</p>
+ *
+ * <p>Divergências detectadas: lançamento alterado (hash), removido ou reordenado
+ * (sequência) e cadeia truncada no fim (ponta da conta). Transações anteriores ao
+ * encadeamento ({@code chain_seq} nulo) não são verificadas.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Slf4j
+@Service
+public class LedgerIntegrityVerifier {
+
+    private static final int MAX_REPORTED = 100;
+    private static final int ACCOUNTS_PER_LEAF = 8;
+
+    private static final String ACCOUNT_IDS_FIRST =
+            "SELECT id FROM accounts ORDER BY id LIMIT ?";
+
+    private static final String ACCOUNT_IDS_AFTER =
+            "SELECT id FROM accounts WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String ACCOUNT_HEAD = """
+            SELECT a.id, a.chain_seq, a.chain_hash, c.chain_seq, c.chain_hash
+            FROM accounts a LEFT JOIN chain_anchors c ON c.account_id = a.id
+            WHERE a.id = ?
+            """;
+
+    private static final String CHAIN = """
+            SELECT chain_seq, chain_hash, type, amount, timestamp, description, journal_entry_id
+            FROM transactions
+            WHERE account_id = ? AND chain_seq IS NOT NULL AND chain_seq > ? AND chain_seq <= ?
+            ORDER BY chain_seq
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnly;
+    private final int parallelism;
+    private final int accountPageSize;
+
+    public LedgerIntegrityVerifier(DataSource dataSource,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${api.ledger.audit.parallelism:4}") int parallelism,
+                                   @Value("${api.ledger.audit.account-page-size:1000}") int accountPageSize,
+                                   @Value("${api.ledger.audit.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.readOnly.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.parallelism = Math.max(1, parallelism);
+        this.accountPageSize = Math.max(1, accountPageSize);
+    }
+
+    /**
+     * Ponta da cadeia de uma conta no momento da leitura e o elo de onde a verificação parte
+     * (posição 0 e hash nulo sem âncora de retenção).
+     */
+    private record AccountHead(UUID id, Long chainSeq, byte[] chainHash, long anchorSeq, byte[] anchorHash) {}
+
+    /**
+     * Totais parciais, combinados entre as tarefas.
+     */
+    private record Totals(long accounts, long postings, List<LedgerAuditDTO.BrokenChain> broken) {
+
+        static final Totals EMPTY = new Totals(0, 0, List.of());
+
+        Totals plus(Totals other) {
+            List<LedgerAuditDTO.BrokenChain> merged = broken;
+            if (!other.broken.isEmpty() && broken.size() < MAX_REPORTED) {
+                merged = new ArrayList<>(broken);
+                merged.addAll(other.broken.subList(0, Math.min(other.broken.size(), MAX_REPORTED - broken.size())));
+            }
+            return new Totals(accounts + other.accounts, postings + other.postings, merged);
+        }
+    }
+
+    /**
+     * Verifica as cadeias de todas as contas.
+     *
+     * @return O resultado da auditoria.
+     */
+    public LedgerAuditDTO verifyAll() {
+        long start = System.nanoTime();
+        Totals totals = Totals.EMPTY;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            UUID after = null;
+            while (true) {
+                List<UUID> page = after == null
+                        ? jdbcTemplate.query(ACCOUNT_IDS_FIRST, (rs, n) -> rs.getObject(1, UUID.class), accountPageSize)
+                        : jdbcTemplate.query(ACCOUNT_IDS_AFTER, (rs, n) -> rs.getObject(1, UUID.class), after, accountPageSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+                totals = totals.plus(pool.invoke(new VerifyTask(page)));
+                after = page.get(page.size() - 1);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        LedgerAuditDTO result = result(totals, start);
+        log.info("Auditoria do ledger: {} contas, {} lançamentos, {} cadeias quebradas em {} ms",
+                result.accountsChecked(), result.postingsChecked(), result.brokenChains().size(), result.elapsedMillis());
+        return result;
+    }
+
+    /**
+     * Verifica a cadeia de uma única conta.
+     *
+     * @param accountId O ID da conta.
+     * @return O resultado da auditoria da conta.
+     * @throws ResourceNotFoundException Se o ID da conta não for encontrado.
+     */
+    public LedgerAuditDTO verifyAccount(UUID accountId) {
+        long start = System.nanoTime();
+        Totals totals = verify(accountId);
+        if (totals == null) {
+            throw new ResourceNotFoundException("Conta não encontrada com ID: " + accountId);
+        }
+        return result(totals, start);
+    }
+
+    private final class VerifyTask extends RecursiveTask<Totals> {
+
+        private final List<UUID> accounts;
+
+        VerifyTask(List<UUID> accounts) {
+            this.accounts = accounts;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (accounts.size() <= ACCOUNTS_PER_LEAF) {
+                Totals totals = Totals.EMPTY;
+                for (UUID accountId : accounts) {
+                    Totals account = verify(accountId);
+                    if (account != null) { // Conta removida depois da leitura da página.
+                        totals = totals.plus(account);
+                    }
+                }
+                return totals;
+            }
+            int middle = accounts.size() / 2;
+            VerifyTask left = new VerifyTask(accounts.subList(0, middle));
+            left.fork();
+            Totals right = new VerifyTask(accounts.subList(middle, accounts.size())).compute();
+            return left.join().plus(right);
+        }
+    }
+
+    /**
+     * Verifica uma conta, lendo ponta, âncora e lançamentos na mesma transação.
+     *
+     * @return Os totais da conta, ou {@code null} se ela não existir.
+     */
+    private Totals verify(UUID accountId) {
+        return readOnly.execute(status -> {
+            AccountHead head = jdbcTemplate.query(ACCOUNT_HEAD, rs -> rs.next() ? head(rs) : null, accountId);
+            return head == null ? null : verify(head);
+        });
+    }
+
+    private Totals verify(AccountHead account) {
+        if (account.chainSeq() == null) {
+            return new Totals(1, 0, List.of());
+        }
+        ChainCheck check = new ChainCheck(account.id(), account.anchorSeq(), account.anchorHash());
+        jdbcTemplate.query(CHAIN, check, account.id(), account.anchorSeq(), account.chainSeq());
+
+        long last = check.nextSeq - 1;
+        if (check.problem == null && last != account.chainSeq()) {
+            check.fail(last + 1, "Cadeia truncada: lançamentos ausentes até a ponta da conta");
+        } else if (check.problem == null && !Arrays.equals(check.previous, account.chainHash())) {
+            check.fail(last, "Ponta da cadeia divergente do último lançamento");
+        }
+        return new Totals(1, last - account.anchorSeq(), check.problem == null ? List.of() : List.of(check.problem));
+    }
+
+    /**
+     * Percorre a cadeia de uma conta, linha a linha, parando na primeira divergência.
+     */
+    private static final class ChainCheck implements RowCallbackHandler {
+
+        private final UUID accountId;
+        private long nextSeq;
+        private byte[] previous;
+        private LedgerAuditDTO.BrokenChain problem;
+
+        ChainCheck(UUID accountId, long anchorSeq, byte[] anchorHash) {
+            this.accountId = accountId;
+            this.nextSeq = anchorSeq + 1;
+            this.previous = anchorHash;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            if (problem != null) {
+                return;
+            }
+            long seq = rs.getLong(1);
+            if (seq != nextSeq) {
+                fail(nextSeq, seq < nextSeq ? "Posição repetida na cadeia" : "Lançamento ausente na cadeia");
+                return;
+            }
+            byte[] expected = PostingChain.hash(previous, seq, accountId,
+                    TransactionType.valueOf(rs.getString(3)),
+                    Money.of(rs.getBigDecimal(4)).minorUnits(),
+                    rs.getTimestamp(5).toLocalDateTime(),
+                    rs.getString(6),
+                    rs.getObject(7, UUID.class));
+            if (!Arrays.equals(expected, rs.getBytes(2))) {
+                fail(seq, "Hash divergente: lançamento alterado");
+                return;
+            }
+            previous = expected;
+            nextSeq++;
+        }
+
+        void fail(long seq, String reason) {
+            problem = new LedgerAuditDTO.BrokenChain(accountId, seq, reason);
+        }
+    }
+
+    private static AccountHead head(ResultSet rs) throws SQLException {
+        long seq = rs.getLong(2);
+        Long chainSeq = rs.wasNull() ? null : seq;
+        return new AccountHead(rs.getObject(1, UUID.class), chainSeq, rs.getBytes(3), rs.getLong(4), rs.getBytes(5));
+    }
+
+    private static LedgerAuditDTO result(Totals totals, long start) {
+        return new LedgerAuditDTO(totals.broken().isEmpty(), totals.accounts(), totals.postings(),
+                (System.nanoTime() - start) / 1_000_000, totals.broken());
+    }
+}
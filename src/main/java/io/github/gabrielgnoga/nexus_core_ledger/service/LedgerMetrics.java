@@ -0,0 +1,101 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Métricas Micrometer do ledger (exportadas em {@code /actuator/prometheus}, com autenticação).
+ *
+ * <p>Todos os medidores usam o prefixo {@code ledger.}; os percentis (p50, p99, p99.9) e os
+ * histogramas são configurados por prefixo em {@code management.metrics.distribution}.</p>
+ *
+ * <ul>
+ * <li>{@code ledger.transactions.create} / {@code ledger.transactions.statement}: tempo das
+ * operações, com a tag {@code outcome} ({@code success} ou o nome da exceção).</li>
+ * <li>{@code ledger.exceptions}: exceções lançadas por essas operações, por tipo
+ * (ex: {@code InsufficientBalanceException}, {@code ResourceNotFoundException}).</li>
+ * <li>{@code ledger.statement.size}: número de transações por página de extrato.</li>
+ * <li>{@code ledger.auth.jwt.validation}: tempo de validação do JWT no filtro de segurança.</li>
+ * </ul>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Component
+public class LedgerMetrics {
+
+    public static final String CREATE = "ledger.transactions.create";
+    public static final String STATEMENT = "ledger.transactions.statement";
+
+    private static final String SUCCESS = "success";
+
+    private final MeterRegistry registry;
+    private final DistributionSummary statementSize;
+    private final Timer jwtValid;
+    private final Timer jwtInvalid;
+
+    public LedgerMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.statementSize = DistributionSummary.builder("ledger.statement.size")
+                .description("Transações devolvidas por página de extrato")
+                .baseUnit("transactions")
+                .register(registry);
+        this.jwtValid = jwtTimer(registry, "valid");
+        this.jwtInvalid = jwtTimer(registry, "invalid");
+    }
+
+    private static Timer jwtTimer(MeterRegistry registry, String result) {
+        return Timer.builder("ledger.auth.jwt.validation")
+                .description("Tempo de validação do token JWT")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Executa a operação medindo o tempo e contando as exceções lançadas.
+     *
+     * @param name O nome do timer ({@link #CREATE} ou {@link #STATEMENT}).
+     * @param operation A operação medida.
+     * @return O resultado da operação.
+     */
+    public <T> T time(String name, Supplier<T> operation) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = SUCCESS;
+        try {
+            return operation.get();
+        } catch (RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            Counter.builder("ledger.exceptions")
+                    .tag("exception", outcome)
+                    .tag("operation", name)
+                    .register(registry)
+                    .increment();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name).tag("outcome", outcome).register(registry));
+        }
+    }
+
+    public void recordStatementSize(int size) {
+        statementSize.record(size);
+    }
+
+    /**
+     * Valida o JWT medindo o tempo, separado por resultado (válido ou inválido).
+     *
+     * @param validation A validação; devolve o login ou uma string vazia.
+     * @return O login do dono do token, ou uma string vazia se o token for inválido.
+     */
+    public String timeJwtValidation(Supplier<String> validation) {
+        long start = System.nanoTime();
+        String login = validation.get();
+        (login.isEmpty() ? jwtInvalid : jwtValid).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return login;
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.dto.ContentionStatsDTO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Executa uma operação transacional repetindo-a quando ocorre conflito de versão
+ * ({@link OptimisticLockingFailureException}).
+ *
+ * <p>O número de tentativas é limitado e o intervalo entre elas segue um backoff
+ * exponencial com jitter completo, evitando que as threads em conflito colidam de novo
+ * no mesmo instante.</p>
+ *
+ * <p>Os contadores de conflitos e retentativas ficam disponíveis em {@link #stats()} e
+ * também são publicados no Micrometer ({@code ledger.optimistic.*}).</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Component
+public class OptimisticRetryExecutor implements MeterBinder {
+
+    private final int maxAttempts;
+    private final long baseBackoffMicros;
+    private final long maxBackoffMicros;
+
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public OptimisticRetryExecutor(@Value("${api.ledger.optimistic-retry.max-attempts:5}") int maxAttempts,
+                                   @Value("${api.ledger.optimistic-retry.base-backoff-micros:500}") long baseBackoffMicros,
+                                   @Value("${api.ledger.optimistic-retry.max-backoff-micros:50000}") long maxBackoffMicros) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMicros = baseBackoffMicros;
+        this.maxBackoffMicros = maxBackoffMicros;
+    }
+
+    /**
+     * Executa a operação, repetindo-a em caso de conflito de versão.
+     *
+     * <p>A operação deve abrir e concluir sua própria transação, para que cada
+     * tentativa leia o estado mais recente do banco.</p>
+     *
+     * @param operation A operação transacional.
+     * @return O resultado da primeira tentativa bem-sucedida.
+     * @throws OptimisticLockingFailureException Se todas as tentativas falharem por conflito.
+     */
+    public <T> T execute(Supplier<T> operation) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return operation.get();
+            } catch (OptimisticLockingFailureException e) {
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    throw e;
+                }
+                retries.increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("ledger.optimistic.conflicts", conflicts, LongAdder::sum)
+                .description("Conflitos de versão detectados nos lançamentos")
+                .register(registry);
+        FunctionCounter.builder("ledger.optimistic.retries", retries, LongAdder::sum)
+                .description("Retentativas após conflito de versão")
+                .register(registry);
+        FunctionCounter.builder("ledger.optimistic.exhausted", exhausted, LongAdder::sum)
+                .description("Lançamentos que esgotaram as tentativas")
+                .register(registry);
+    }
+
+    public ContentionStatsDTO stats() {
+        return new ContentionStatsDTO(conflicts.sum(), retries.sum(), exhausted.sum());
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMicros, baseBackoffMicros << Math.min(attempt - 1, 20));
+        long sleep = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            TimeUnit.MICROSECONDS.sleep(sleep);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Retentativa interrompida", e);
+        }
+    }
+}
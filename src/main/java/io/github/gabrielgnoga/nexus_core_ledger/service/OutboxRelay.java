@@ -0,0 +1,217 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Relay do outbox transacional: lê os eventos gravados por {@link TransactionOutbox} em
+ * lotes e os entrega aos {@link TransactionPostedSubscriber}s registrados.
+ *
+ * <p>Funcionamento:</p>
+ * <ul>
+ * <li>Uma thread dedicada dorme até ser avisada de um commit com eventos (ou até
+ * {@code poll-interval-ms}, para eventos gravados por outras instâncias ou antes de uma
+ * reinicialização). Avisada, espera até {@code linger-ms} para juntar {@code batch-size}
+ * eventos e então esvazia o outbox, lote a lote, em ordem de gravação.</li>
+ * <li>Cada lote é removido do outbox somente depois que todos os assinantes o aceitaram:
+ * entrega "pelo menos uma vez". Se um assinante falhar, o mesmo lote é entregue de novo
+ * após {@code retry-backoff-ms}, sem passar à frente dos seguintes; a ordem por conta é
+ * preservada.</li>
+ * <li>O lançamento só grava a linha e avisa a thread após o commit, sem esperar a entrega.</li>
+ * </ul>
+ *
+ * <p>A ordem por conta vale com um único relay ativo lendo o outbox; com várias instâncias,
+ * desligar o relay nas demais com {@code api.ledger.outbox.relay-enabled=false}. Métricas
+ * em {@code ledger.outbox.*}.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements MeterBinder {
+
+    private static final String SELECT_BATCH = """
+            SELECT id, transaction_id, account_id, chain_seq, type, amount, posted_at, description, journal_entry_id
+            FROM outbox_events
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String DELETE = "DELETE FROM outbox_events WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<TransactionPostedSubscriber> subscribers;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long pollIntervalNanos;
+    private final long retryBackoffNanos;
+
+    private final AtomicLong signalled = new AtomicLong();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    private volatile Thread relay;
+    private volatile boolean running;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate,
+                       ObjectProvider<TransactionPostedSubscriber> subscribers,
+                       @Value("${api.ledger.outbox.enabled:true}") boolean outboxEnabled,
+                       @Value("${api.ledger.outbox.relay-enabled:true}") boolean relayEnabled,
+                       @Value("${api.ledger.outbox.batch-size:256}") int batchSize,
+                       @Value("${api.ledger.outbox.linger-ms:5}") long lingerMillis,
+                       @Value("${api.ledger.outbox.poll-interval-ms:1000}") long pollIntervalMillis,
+                       @Value("${api.ledger.outbox.retry-backoff-ms:1000}") long retryBackoffMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.subscribers = subscribers;
+        this.enabled = outboxEnabled && relayEnabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, lingerMillis));
+        this.pollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, pollIntervalMillis));
+        this.retryBackoffNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, retryBackoffMillis));
+    }
+
+    /**
+     * Inicia o relay com a aplicação pronta (esquema criado e diário do motor já reaplicado).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::relayLoop, "outbox-relay");
+        thread.setDaemon(true);
+        relay = thread;
+        thread.start();
+        log.info("Relay do outbox ativo: lotes de até {} eventos, espera de {} ms",
+                batchSize, TimeUnit.NANOSECONDS.toMillis(lingerNanos));
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        Thread thread = relay;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * Avisa o relay de que eventos foram confirmados. Não bloqueia.
+     *
+     * @param events Quantidade de eventos confirmados.
+     */
+    void signal(int events) {
+        Thread thread = relay;
+        if (thread != null) {
+            signalled.addAndGet(events);
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void relayLoop() {
+        while (running) {
+            awaitEvents();
+            try {
+                int relayed;
+                do {
+                    relayed = relayBatch();
+                } while (running && relayed == batchSize); // Lote cheio: pode haver mais eventos pendentes.
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("Falha ao entregar eventos do outbox; nova tentativa em {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(retryBackoffNanos), e);
+                parkUntil(System.nanoTime() + retryBackoffNanos, Long.MAX_VALUE);
+            }
+        }
+    }
+
+    /**
+     * Espera um aviso (ou o intervalo de varredura) e, depois do aviso, até {@code linger}
+     * para que o lote encha.
+     */
+    private void awaitEvents() {
+        parkUntil(System.nanoTime() + pollIntervalNanos, 1);
+        if (signalled.get() > 0) {
+            parkUntil(System.nanoTime() + lingerNanos, batchSize);
+        }
+        signalled.set(0);
+    }
+
+    private void parkUntil(long deadline, long enoughSignals) {
+        long remaining;
+        while (running && signalled.get() < enoughSignals && (remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+        }
+    }
+
+    /**
+     * Entrega o próximo lote do outbox e o remove.
+     *
+     * @return Quantidade de eventos entregues.
+     */
+    int relayBatch() {
+        List<TransactionPostedEvent> events = jdbcTemplate.query(SELECT_BATCH, (rs, rowNum) -> new TransactionPostedEvent(
+                rs.getObject("id", UUID.class),
+                rs.getObject("transaction_id", UUID.class),
+                rs.getObject("account_id", UUID.class),
+                rs.getObject("chain_seq", Long.class),
+                TransactionType.valueOf(rs.getString("type")),
+                Money.of(rs.getBigDecimal("amount")).toBigDecimal(),
+                rs.getTimestamp("posted_at").toLocalDateTime(),
+                rs.getString("description"),
+                rs.getObject("journal_entry_id", UUID.class)
+        ), batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<TransactionPostedEvent> batch = List.copyOf(events);
+        subscribers.orderedStream().forEach(subscriber -> subscriber.onTransactionsPosted(batch));
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(DELETE, batch, batch.size(),
+                (ps, event) -> ps.setObject(1, event.eventId())));
+        batches.increment();
+        dispatched.add(batch.size());
+        return batch.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("ledger.outbox.dispatched", dispatched, LongAdder::sum)
+                .description("Eventos entregues aos assinantes e removidos do outbox")
+                .register(registry);
+        FunctionCounter.builder("ledger.outbox.batches", batches, LongAdder::sum)
+                .description("Lotes entregues pelo relay do outbox")
+                .register(registry);
+        FunctionCounter.builder("ledger.outbox.failures", failures, LongAdder::sum)
+                .description("Entregas de lote que falharam e serão repetidas")
+                .register(registry);
+    }
+}
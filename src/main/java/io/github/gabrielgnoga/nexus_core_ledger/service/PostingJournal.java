@@ -0,0 +1,448 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.PostingChain;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Diário (journal) local, somente-anexação, dos lançamentos aceitos por um shard do
+ * {@link ShardedPostingEngine}.
+ *
+ * <p>Cada lançamento é gravado no arquivo antes de ser confirmado ao cliente; a gravação
+ * no banco acontece depois, em lotes. Se o processo cair antes disso, os registros do diário
+ * são reaplicados na próxima inicialização ({@link #readAll(Path)}).</p>
+ *
+ * <p>Formato de cada registro: {@code [tamanho:int][crc32c:int][payload]}. Um registro
+ * incompleto ou com CRC divergente no fim do arquivo (escrita interrompida) marca o fim do
+ * diário e é descartado, pois nunca chegou a ser confirmado.</p>
+ *
+ * <p>Uma falha de escrita ou de {@code fsync} é definitiva: o diário deixa de aceitar
+ * registros, os que aguardavam o {@code fsync} falham e o segmento é truncado na última
+ * posição sabidamente durável, para que esses lançamentos não reapareçam na reaplicação.</p>
+ *
+ * <p>O arquivo é dividido em segmentos ({@code shard-<n>-<seq>.journal}); um segmento
+ * fechado é apagado assim que todos os seus lançamentos estão gravados no banco.</p>
+ *
+ * <p>Uso: {@link #append} apenas pela thread do shard; {@link #flushedThrough} apenas pela
+ * thread de escrita do shard.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Slf4j
+final class PostingJournal implements AutoCloseable {
+
+    /**
+     * Quando a escrita no diário é considerada durável.
+     */
+    enum FsyncPolicy {
+        /** {@code fsync} a cada lançamento, na própria thread do shard. */
+        ALWAYS,
+        /** Um {@code fsync} por grupo: todos os lançamentos escritos desde o último são confirmados juntos. */
+        GROUP,
+        /** Sem {@code fsync}: sobrevive à queda do processo, mas não à do sistema operacional. */
+        NONE
+    }
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("shard-(\\d+)-(\\d+)\\.journal");
+    private static final int HEADER_BYTES = 8;
+    private static final int FIXED_PAYLOAD_BYTES = 8 * 6 + 1 + 8 + 4 + 8 + PostingChain.HASH_BYTES + 4;
+
+    private final Path directory;
+    private final int shard;
+    private final FsyncPolicy policy;
+    private final long segmentBytes;
+
+    /** Segmentos já fechados, com o último número de sequência de cada um. */
+    private final Deque<ClosedSegment> closed = new ConcurrentLinkedDeque<>();
+    private final BlockingQueue<CompletableFuture<Void>> waiters = new LinkedBlockingQueue<>();
+    private final Thread syncer;
+
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+    private FileChannel channel;
+    private Path segment;
+    private long segmentSeq;
+    private long sequence;
+    private volatile boolean running = true;
+
+    /** Posição do segmento corrente coberta pelo último {@code fsync} em grupo bem-sucedido. */
+    private long durablePosition;
+
+    /** Falha de escrita ou de {@code fsync}; depois dela o diário não aceita registros. */
+    private volatile IOException failure;
+
+    private record ClosedSegment(Path path, long lastSequence) {}
+
+    PostingJournal(Path directory, int shard, FsyncPolicy policy, long segmentBytes) {
+        this.directory = directory;
+        this.shard = shard;
+        this.policy = policy;
+        this.segmentBytes = segmentBytes;
+        try {
+            Files.createDirectories(directory);
+            openSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir o diário de lançamentos em " + directory, e);
+        }
+        if (policy == FsyncPolicy.GROUP) {
+            syncer = new Thread(this::syncLoop, "posting-journal-sync-" + shard);
+            syncer.setDaemon(true);
+            syncer.start();
+        } else {
+            syncer = null;
+        }
+    }
+
+    /**
+     * Anexa o lançamento ao diário.
+     *
+     * @param transaction O lançamento já validado.
+     * @param balanceAfter O saldo da conta após o lançamento.
+     * @param chain O elo do lançamento na cadeia de hashes da conta.
+     * @return O número de sequência do registro e o futuro que completa quando ele estiver
+     *         durável, conforme a {@link FsyncPolicy}.
+     * @throws UncheckedIOException Se a escrita falhar; o lançamento não deve ser aceito.
+     */
+    Appended append(TransactionResponseDTO transaction, Money balanceAfter, PostingChain.Link chain) {
+        IOException failed = failure;
+        if (failed != null) {
+            throw new UncheckedIOException("Diário de lançamentos indisponível após falha de escrita", failed);
+        }
+        long start = -1;
+        try {
+            if (channel.position() >= segmentBytes) {
+                rotate();
+            }
+            start = channel.position();
+            ByteBuffer record = encode(transaction, balanceAfter, chain);
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            long seq = ++sequence;
+
+            CompletableFuture<Void> durable;
+            if (policy == FsyncPolicy.ALWAYS) {
+                channel.force(false);
+                durable = CompletableFuture.completedFuture(null);
+            } else if (policy == FsyncPolicy.GROUP) {
+                durable = new CompletableFuture<>();
+                waiters.add(durable);
+            } else {
+                durable = CompletableFuture.completedFuture(null);
+            }
+            return new Appended(seq, durable);
+        } catch (IOException e) {
+            failure = e;
+            if (start >= 0) {
+                truncate(start);
+            }
+            throw new UncheckedIOException("Falha ao gravar no diário de lançamentos", e);
+        }
+    }
+
+    /**
+     * Depois de uma falha de {@code fsync} em grupo, remove do segmento corrente os registros
+     * que não chegaram a ser confirmados. Apenas pela thread do shard, que é a única que
+     * escreve no arquivo.
+     */
+    synchronized void discardUndurable() {
+        if (failure != null) {
+            truncate(durablePosition);
+        }
+    }
+
+    private synchronized void truncate(long position) {
+        try {
+            channel.truncate(position);
+            channel.force(false);
+        } catch (IOException e) {
+            log.error("Não foi possível truncar o diário {} na posição {}: registros não confirmados podem ser reaplicados",
+                    segment, position, e);
+        }
+    }
+
+    /**
+     * Resultado de {@link #append}.
+     *
+     * @param sequence Posição do registro no diário deste shard.
+     * @param durable Completa quando o registro estiver durável.
+     */
+    record Appended(long sequence, CompletableFuture<Void> durable) {}
+
+    /**
+     * Informa que todos os registros até {@code sequence} (inclusive) já estão no banco,
+     * liberando os segmentos fechados que só contêm registros anteriores.
+     */
+    void flushedThrough(long sequence) {
+        ClosedSegment oldest;
+        while ((oldest = closed.peekFirst()) != null && oldest.lastSequence() <= sequence) {
+            closed.pollFirst();
+            try {
+                Files.deleteIfExists(oldest.path());
+            } catch (IOException e) {
+                log.warn("Não foi possível apagar o segmento de diário {}", oldest.path(), e);
+            }
+        }
+    }
+
+    /**
+     * Fecha o diário, com um último {@code fsync}.
+     */
+    @Override
+    public void close() {
+        running = false;
+        if (syncer != null) {
+            syncer.interrupt();
+            try {
+                syncer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            try {
+                channel.force(false);
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Falha ao fechar o diário de lançamentos do shard {}", shard, e);
+            }
+        }
+        // O fsync acima cobre tudo o que ainda aguardava o grupo, salvo depois de uma falha.
+        List<CompletableFuture<Void>> remaining = new ArrayList<>();
+        waiters.drainTo(remaining);
+        IOException failed = failure;
+        remaining.forEach(waiter -> {
+            if (failed == null) {
+                waiter.complete(null);
+            } else {
+                waiter.completeExceptionally(new UncheckedIOException("Falha no fsync do diário de lançamentos", failed));
+            }
+        });
+    }
+
+    /**
+     * Apaga todos os segmentos do diário deste shard, inclusive o corrente.
+     * Só deve ser chamado depois de {@link #close()} e com tudo gravado no banco.
+     */
+    void deleteSegments() {
+        flushedThrough(Long.MAX_VALUE);
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            log.warn("Não foi possível apagar o segmento de diário {}", segment, e);
+        }
+    }
+
+    private void syncLoop() {
+        List<CompletableFuture<Void>> group = new ArrayList<>();
+        while (running) {
+            try {
+                group.add(waiters.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            // Tudo o que foi escrito antes de o futuro entrar na fila é coberto por este fsync.
+            waiters.drainTo(group);
+            IOException failed = failure;
+            if (failed == null) {
+                synchronized (this) {
+                    try {
+                        long position = channel.position();
+                        channel.force(false);
+                        durablePosition = position;
+                    } catch (IOException e) {
+                        failure = failed = e;
+                    }
+                }
+            }
+            for (CompletableFuture<Void> waiter : group) {
+                if (failed == null) {
+                    waiter.complete(null);
+                } else {
+                    waiter.completeExceptionally(new UncheckedIOException("Falha no fsync do diário de lançamentos", failed));
+                }
+            }
+            group.clear();
+        }
+    }
+
+    private synchronized void rotate() throws IOException {
+        // O segmento antigo precisa estar durável antes de o fsync em grupo passar para o novo.
+        channel.force(false);
+        channel.close();
+        closed.addLast(new ClosedSegment(segment, sequence));
+        segmentSeq++;
+        openSegment();
+    }
+
+    private void openSegment() throws IOException {
+        durablePosition = 0;
+        segment = directory.resolve("shard-" + shard + "-" + segmentSeq + ".journal");
+        while (Files.exists(segment)) {
+            segmentSeq++;
+            segment = directory.resolve("shard-" + shard + "-" + segmentSeq + ".journal");
+        }
+        channel = FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    private ByteBuffer encode(TransactionResponseDTO t, Money balanceAfter, PostingChain.Link chain) {
+        byte[] description = t.description() == null ? null : t.description().getBytes(StandardCharsets.UTF_8);
+        int payloadBytes = FIXED_PAYLOAD_BYTES + (description == null ? 0 : description.length);
+
+        if (buffer.capacity() < HEADER_BYTES + payloadBytes) {
+            buffer = ByteBuffer.allocateDirect(Integer.highestOneBit(HEADER_BYTES + payloadBytes) << 1);
+        }
+        buffer.clear();
+        buffer.position(HEADER_BYTES);
+        buffer.putLong(t.id().getMostSignificantBits())
+                .putLong(t.id().getLeastSignificantBits())
+                .putLong(t.accountId().getMostSignificantBits())
+                .putLong(t.accountId().getLeastSignificantBits())
+                .putLong(Money.of(t.amount()).minorUnits())
+                .putLong(balanceAfter.minorUnits())
+                .put((byte) t.type().ordinal())
+                .putLong(t.timestamp().toEpochSecond(ZoneOffset.UTC))
+                .putInt(t.timestamp().getNano())
+                .putLong(chain.seq())
+                .put(chain.hash())
+                .putInt(description == null ? -1 : description.length);
+        if (description != null) {
+            buffer.put(description);
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.flip().position(HEADER_BYTES));
+        buffer.putInt(0, payloadBytes).putInt(4, (int) crc.getValue());
+        return buffer.position(0);
+    }
+
+    /**
+     * Lê todos os registros dos segmentos encontrados no diretório, na ordem em que foram
+     * escritos (por shard, segmento e posição). Registros de um shard ficam sempre em ordem;
+     * entre shards não há dependência, pois cada conta pertence a um único shard.
+     *
+     * @param directory O diretório do diário.
+     * @return Os lançamentos do diário, ainda não necessariamente gravados no banco.
+     */
+    static List<ShardedPostingEngine.Posting> readAll(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<ShardedPostingEngine.Posting> postings = new ArrayList<>();
+        for (Path file : segments(directory)) {
+            try {
+                readSegment(file, postings);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao ler o diário de lançamentos " + file, e);
+            }
+        }
+        return postings;
+    }
+
+    /**
+     * Apaga todos os segmentos do diretório (depois de uma reaplicação bem-sucedida).
+     */
+    static void deleteAll(Path directory) {
+        for (Path file : segments(directory)) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Não foi possível apagar o segmento de diário " + file, e);
+            }
+        }
+    }
+
+    private static List<Path> segments(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> SEGMENT_NAME.matcher(file.getFileName().toString()).matches())
+                    .sorted(Comparator.<Path>comparingLong(file -> segmentKey(file, 1)).thenComparingLong(file -> segmentKey(file, 2)))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível listar o diário de lançamentos em " + directory, e);
+        }
+    }
+
+    private static long segmentKey(Path file, int group) {
+        Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+        matcher.matches();
+        return Long.parseLong(matcher.group(group));
+    }
+
+    private static void readSegment(Path file, List<ShardedPostingEngine.Posting> postings) throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file));
+        CRC32C crc = new CRC32C();
+        while (data.remaining() >= HEADER_BYTES) {
+            int start = data.position();
+            int payloadBytes = data.getInt();
+            int expectedCrc = data.getInt();
+            if (payloadBytes < FIXED_PAYLOAD_BYTES || payloadBytes > data.remaining()) {
+                log.warn("Registro incompleto no fim do diário {} (posição {}), descartado", file, start);
+                return;
+            }
+            ByteBuffer payload = data.slice(data.position(), payloadBytes);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != expectedCrc) {
+                log.warn("Registro com CRC inválido no diário {} (posição {}), descartado com o restante do segmento", file, start);
+                return;
+            }
+            postings.add(decode(payload));
+            data.position(data.position() + payloadBytes);
+        }
+    }
+
+    private static ShardedPostingEngine.Posting decode(ByteBuffer payload) {
+        UUID id = new UUID(payload.getLong(), payload.getLong());
+        UUID accountId = new UUID(payload.getLong(), payload.getLong());
+        Money amount = new Money(payload.getLong());
+        Money balanceAfter = new Money(payload.getLong());
+        TransactionType type = TransactionType.values()[payload.get()];
+        LocalDateTime timestamp = LocalDateTime.ofEpochSecond(payload.getLong(), payload.getInt(), ZoneOffset.UTC);
+        long chainSeq = payload.getLong();
+        byte[] chainHash = new byte[PostingChain.HASH_BYTES];
+        payload.get(chainHash);
+        int descriptionBytes = payload.getInt();
+        String description = null;
+        if (descriptionBytes >= 0) {
+            byte[] bytes = new byte[descriptionBytes];
+            payload.get(bytes);
+            description = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return new ShardedPostingEngine.Posting(
+                new TransactionResponseDTO(id, amount, type, timestamp, description, accountId),
+                balanceAfter,
+                new PostingChain.Link(chainSeq, chainHash),
+                0);
+    }
+}
@@ -0,0 +1,495 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.PostingChain;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Transaction;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.UuidV7Generator;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.ResourceNotFoundException;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Motor de lançamentos em memória, particionado por conta (Single-Writer).
+ *
+ * <p>As contas são distribuídas entre N shards pelo hash do UUID. Cada shard é
+ * executado por uma única thread, que é a dona exclusiva dos saldos das suas contas.
+ * Por isso a validação de débito acontece sem locks e sem ida ao banco depois que
+ * o saldo foi carregado pela primeira vez.</p>
+ *
+ * <p>Os lançamentos aceitos são persistidos de forma assíncrona por uma thread
+ * de escrita dedicada a cada shard, respeitando a ordem em que foram aplicados.</p>
+ *
+ * <p>Com o diário ativo ({@code api.ledger.posting-engine.journal.enabled=true}), cada
+ * lançamento é gravado antes no {@link PostingJournal} do shard e só é confirmado ao
+ * cliente, e enviado ao banco, quando essa escrita estiver durável; a latência da resposta
+ * deixa de depender do commit no banco. Uma falha do diário para o shard, descartando o que
+ * não ficou durável. Na inicialização, o que restou no diário é reaplicado no banco
+ * antes de o motor aceitar novos lançamentos.</p>
+ *
+ * <p>Um lote que continua falhando depois de {@code flush-max-attempts} tentativas para o
+ * shard: a falha é registrada em log, os lançamentos ainda não gravados ficam no diário
+ * (quando ativo) para a próxima inicialização e novos lançamentos nas contas do shard
+ * são recusados, em vez de se acumularem na memória.</p>
+ *
+ * <p>Modo opcional, ativado por {@code api.ledger.posting-engine.enabled=true}. Enquanto
+ * estiver ativo, todos os lançamentos devem passar por este motor, pois ele é a fonte
+ * da verdade dos saldos em memória.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Slf4j
+@Service
+public class ShardedPostingEngine {
+
+    private static final String INSERT_TRANSACTION =
+            "INSERT INTO transactions (id, amount, type, timestamp, description, account_id, chain_seq, chain_hash) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /** Reaplicação do diário: o lançamento pode já ter sido gravado antes da queda. */
+    private static final String REPLAY_TRANSACTION =
+            "INSERT INTO transactions (id, amount, type, timestamp, description, account_id, chain_seq, chain_hash) "
+                    + "SELECT ?, ?, ?, ?, ?, ?, ?, ? WHERE NOT EXISTS (SELECT 1 FROM transactions WHERE id = ?)";
+
+    private static final String UPDATE_BALANCE =
+            "UPDATE accounts SET balance = ?, chain_seq = ?, chain_hash = ?, version = COALESCE(version, 0) + 1 WHERE id = ?";
+
+    private final AccountRepository accountRepository;
+    private final AccountCache accountCache;
+    private final BalanceRollupService balanceRollups;
+    private final TransactionOutbox transactionOutbox;
+    private final BalanceCheckpointService balanceCheckpointService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int shardCount;
+    private final int flushBatchSize;
+    private final int flushMaxAttempts;
+    private final long flushRetryBackoffMillis;
+    private final boolean journalEnabled;
+    private final Path journalDirectory;
+    private final PostingJournal.FsyncPolicy fsyncPolicy;
+    private final long journalSegmentBytes;
+
+    private Shard[] shards;
+
+    public ShardedPostingEngine(AccountRepository accountRepository,
+                                AccountCache accountCache,
+                                BalanceRollupService balanceRollups,
+                                TransactionOutbox transactionOutbox,
+                                BalanceCheckpointService balanceCheckpointService,
+                                JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${api.ledger.posting-engine.enabled:false}") boolean enabled,
+                                @Value("${api.ledger.posting-engine.shards:0}") int shardCount,
+                                @Value("${api.ledger.posting-engine.flush-batch-size:500}") int flushBatchSize,
+                                @Value("${api.ledger.posting-engine.flush-max-attempts:5}") int flushMaxAttempts,
+                                @Value("${api.ledger.posting-engine.flush-retry-backoff-ms:1000}") long flushRetryBackoffMillis,
+                                @Value("${api.ledger.posting-engine.journal.enabled:false}") boolean journalEnabled,
+                                @Value("${api.ledger.posting-engine.journal.directory:data/journal}") Path journalDirectory,
+                                @Value("${api.ledger.posting-engine.journal.fsync:GROUP}") PostingJournal.FsyncPolicy fsyncPolicy,
+                                @Value("${api.ledger.posting-engine.journal.segment-bytes:67108864}") long journalSegmentBytes) {
+        this.accountRepository = accountRepository;
+        this.accountCache = accountCache;
+        this.balanceRollups = balanceRollups;
+        this.transactionOutbox = transactionOutbox;
+        this.balanceCheckpointService = balanceCheckpointService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.shardCount = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.flushBatchSize = flushBatchSize;
+        this.flushMaxAttempts = Math.max(1, flushMaxAttempts);
+        this.flushRetryBackoffMillis = flushRetryBackoffMillis;
+        this.journalEnabled = journalEnabled;
+        this.journalDirectory = journalDirectory;
+        this.fsyncPolicy = fsyncPolicy;
+        this.journalSegmentBytes = journalSegmentBytes;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        if (journalEnabled) {
+            replayJournal();
+        }
+        shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i);
+        }
+        log.info("Motor de lançamentos iniciado com {} shards (diário: {})", shardCount,
+                journalEnabled ? fsyncPolicy + " em " + journalDirectory : "desativado");
+    }
+
+    /**
+     * Grava no banco os lançamentos que ficaram no diário (aceitos mas ainda não gravados
+     * quando o processo parou) e apaga os segmentos.
+     *
+     * <p>A reaplicação é idempotente: transações já gravadas são ignoradas e o saldo de cada
+     * conta é sobrescrito, na ordem do diário, pelo saldo registrado após cada lançamento.</p>
+     */
+    private void replayJournal() {
+        List<Posting> postings = PostingJournal.readAll(journalDirectory);
+        for (int from = 0; from < postings.size(); from += flushBatchSize) {
+            List<Posting> batch = postings.subList(from, Math.min(postings.size(), from + flushBatchSize));
+            transactionTemplate.executeWithoutResult(status -> write(batch, true));
+        }
+        PostingJournal.deleteAll(journalDirectory);
+        if (!postings.isEmpty()) {
+            log.info("{} lançamentos reaplicados a partir do diário em {}", postings.size(), journalDirectory);
+        }
+    }
+
+    /**
+     * Encerra os shards aguardando que todos os lançamentos pendentes sejam gravados no banco.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (shards == null) {
+            return;
+        }
+        for (Shard shard : shards) {
+            shard.shutdown();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Aplica um lançamento no shard dono da conta e aguarda a validação.
+     *
+     * <p>O retorno acontece assim que o saldo em memória foi atualizado e, com o diário
+     * ativo, a escrita no diário está durável; a gravação no banco segue em segundo plano.</p>
+     *
+     * @param data DTO contendo os dados da transação.
+     * @return DTO com os dados da transação aceita.
+     */
+    public TransactionResponseDTO post(TransactionRequestDTO data) {
+        Shard shard = shardOf(data.accountId());
+        return await(CompletableFuture.supplyAsync(() -> shard.apply(data), shard.executor)
+                .thenCompose(accepted -> accepted));
+    }
+
+    /**
+     * Remove a conta pelo shard dono dela, descartando o seu saldo em memória.
+     *
+     * <p>Enquanto o motor estiver ativo, contas só devem ser removidas por aqui: o shard
+     * recusa a remoção de contas com lançamentos ainda não gravados, que de outra forma
+     * fariam o lote pendente falhar por chave estrangeira.</p>
+     *
+     * @param accountId O ID da conta.
+     * @throws DataIntegrityViolationException Se a conta tiver lançamentos.
+     */
+    public void deleteAccount(UUID accountId) {
+        Shard shard = shardOf(accountId);
+        await(CompletableFuture.runAsync(() -> shard.delete(accountId), shard.executor));
+    }
+
+    private Shard shardOf(UUID accountId) {
+        return shards[Math.floorMod(accountId.hashCode(), shards.length)];
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Lançamento já aceito em memória, aguardando gravação.
+     *
+     * @param chain Elo do lançamento na cadeia de hashes da conta.
+     * @param journalSequence Posição do registro no diário do shard (0 sem diário).
+     */
+    record Posting(TransactionResponseDTO transaction, Money balanceAfter, PostingChain.Link chain, long journalSequence) {}
+
+    /**
+     * Estado de uma conta em memória: saldo e ponta da cadeia de hashes.
+     */
+    private record AccountHead(Money balance, PostingChain.Link chain) {}
+
+    private void write(List<Posting> batch, boolean replay) {
+        // Antes das transações: na reaplicação, só geram evento as que ainda não estavam no banco.
+        transactionOutbox.appendWritten(batch.stream()
+                .map(posting -> {
+                    TransactionResponseDTO t = posting.transaction();
+                    return new TransactionPostedEvent(UuidV7Generator.next(), t.id(), t.accountId(), posting.chain().seq(),
+                            t.type(), t.amount(), t.timestamp(), t.description(), null);
+                })
+                .toList(), replay);
+
+        jdbcTemplate.batchUpdate(replay ? REPLAY_TRANSACTION : INSERT_TRANSACTION, batch, batch.size(), (ps, posting) -> {
+            TransactionResponseDTO t = posting.transaction();
+            ps.setObject(1, t.id());
+            ps.setBigDecimal(2, t.amount());
+            ps.setString(3, t.type().name());
+            ps.setTimestamp(4, Timestamp.valueOf(t.timestamp()));
+            ps.setString(5, t.description());
+            ps.setObject(6, t.accountId());
+            ps.setLong(7, posting.chain().seq());
+            ps.setBytes(8, posting.chain().hash());
+            if (replay) {
+                ps.setObject(9, t.id());
+            }
+        });
+
+        // Apenas o último saldo (e a ponta da cadeia) de cada conta no lote precisa ser gravado.
+        Map<UUID, Posting> lastBalances = new HashMap<>();
+        Map<UUID, Long> previousSeqs = new HashMap<>();
+        for (Posting posting : batch) {
+            lastBalances.put(posting.transaction().accountId(), posting);
+            previousSeqs.putIfAbsent(posting.transaction().accountId(), posting.chain().seq() - 1);
+        }
+        // Antes do UPDATE: a variação dos totalizadores é medida contra o saldo ainda gravado.
+        Map<UUID, Money> newBalances = new HashMap<>();
+        lastBalances.forEach((accountId, posting) -> newBalances.put(accountId, posting.balanceAfter()));
+        balanceRollups.applyBalances(newBalances);
+        jdbcTemplate.batchUpdate(UPDATE_BALANCE, lastBalances.entrySet(), lastBalances.size(), (ps, entry) -> {
+            ps.setBigDecimal(1, entry.getValue().balanceAfter().toBigDecimal());
+            ps.setLong(2, entry.getValue().chain().seq());
+            ps.setBytes(3, entry.getValue().chain().hash());
+            ps.setObject(4, entry.getKey());
+        });
+        lastBalances.forEach((accountId, posting) -> balanceCheckpointService.onPostings(accountId,
+                previousSeqs.get(accountId), posting.chain().seq(), posting.transaction().timestamp(), posting.balanceAfter()));
+
+        // Saldos gravados por SQL não passam pelo listener JPA: invalida o cache após o commit.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accountCache.invalidate(lastBalances.keySet());
+            }
+        });
+    }
+
+    private final class Shard {
+
+        private final int index;
+        private final ExecutorService executor;
+        private final Thread writer;
+        private final BlockingQueue<Posting> pending = new LinkedBlockingQueue<>();
+        private final PostingJournal journal;
+
+        /** Saldos e pontas de cadeia das contas deste shard. Acessado apenas pela thread do executor. */
+        private final Map<UUID, AccountHead> heads = new HashMap<>();
+
+        private volatile boolean running = true;
+
+        /** Causa da parada do shard; depois dela nenhum lançamento é aceito. */
+        private volatile RuntimeException failure;
+
+        Shard(int index) {
+            this.index = index;
+            this.journal = journalEnabled
+                    ? new PostingJournal(journalDirectory, index, fsyncPolicy, journalSegmentBytes)
+                    : null;
+            this.executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "posting-shard-" + index));
+            this.writer = new Thread(this::drain, "posting-writer-" + index);
+            this.writer.start();
+        }
+
+        /**
+         * Valida e aplica o lançamento. O futuro devolvido completa quando o lançamento
+         * pode ser confirmado ao cliente (imediatamente, sem diário).
+         */
+        CompletableFuture<TransactionResponseDTO> apply(TransactionRequestDTO data) {
+            checkRunning();
+            AccountHead current = heads.get(data.accountId());
+            if (current == null) {
+                current = accountRepository.findById(data.accountId())
+                        .map(account -> new AccountHead(
+                                account.getBalance() == null ? Money.ZERO : account.getBalance(),
+                                account.getChainSeq() == null
+                                        ? PostingChain.Link.START
+                                        : new PostingChain.Link(account.getChainSeq(), account.getChainHash())))
+                        .orElseThrow(() -> new ResourceNotFoundException("Conta não encontrada com ID: " + data.accountId()));
+            }
+
+            Money amount = Money.of(data.amount());
+            Money newBalance = TransactionService.applyPosting(current.balance(), data.type(), amount);
+
+            TransactionResponseDTO response = new TransactionResponseDTO(
+                    UuidV7Generator.next(),
+                    amount,
+                    data.type(),
+                    Transaction.currentTimestamp(),
+                    data.description(),
+                    data.accountId()
+            );
+
+            PostingChain.Link chain = PostingChain.next(current.chain(), data.accountId(), data.type(), amount,
+                    response.timestamp(), response.description(), null);
+
+            // O diário vem antes do saldo em memória: se a escrita falhar, o lançamento não existiu.
+            PostingJournal.Appended appended;
+            try {
+                appended = journal == null ? null : journal.append(response, newBalance, chain);
+            } catch (UncheckedIOException e) {
+                stopAfterJournalFailure(e);
+                throw e;
+            }
+            heads.put(data.accountId(), new AccountHead(newBalance, chain));
+            Posting posting = new Posting(response, newBalance, chain, appended == null ? 0 : appended.sequence());
+            if (appended == null) {
+                pending.add(posting);
+                return CompletableFuture.completedFuture(response);
+            }
+
+            // Só segue para o banco depois de durável. Os futuros completam na ordem do diário,
+            // então a fila de gravação mantém a ordem em que os lançamentos foram aplicados.
+            return appended.durable().handle((durable, error) -> {
+                if (error != null) {
+                    executor.execute(() -> stopAfterJournalFailure(error));
+                    throw error instanceof RuntimeException e ? e : new CompletionException(error);
+                }
+                pending.add(posting);
+                return response;
+            });
+        }
+
+        /**
+         * Para o shard depois de uma falha do diário. Os saldos em memória podem incluir
+         * lançamentos que nunca ficaram duráveis e são descartados, assim como os registros
+         * deles no diário; os lançamentos já confirmados continuam a ser gravados no banco.
+         * Apenas pela thread do shard.
+         */
+        private void stopAfterJournalFailure(Throwable cause) {
+            if (failure != null) {
+                return;
+            }
+            failure = cause instanceof RuntimeException e ? e : new IllegalStateException(cause);
+            heads.clear();
+            journal.discardUndurable();
+            log.error("Shard {} do motor de lançamentos parado: falha no diário em {}. Lançamentos não confirmados foram "
+                    + "descartados e novos lançamentos nas contas do shard serão recusados", index, journalDirectory, cause);
+        }
+
+        /**
+         * Remove a conta e o seu saldo em memória. Uma conta com estado em memória já recebeu
+         * lançamentos, gravados ou não no banco, e por isso não pode ser removida.
+         */
+        void delete(UUID accountId) {
+            checkRunning();
+            if (heads.containsKey(accountId)) {
+                throw new DataIntegrityViolationException("Conta com lançamentos não pode ser removida: " + accountId);
+            }
+            transactionTemplate.executeWithoutResult(status -> accountRepository.deleteById(accountId));
+        }
+
+        private void checkRunning() {
+            RuntimeException cause = failure;
+            if (cause != null) {
+                throw new IllegalStateException("Shard " + index + " do motor de lançamentos parado após falha de gravação", cause);
+            }
+        }
+
+        private void drain() {
+            List<Posting> batch = new ArrayList<>(flushBatchSize);
+            while (running || !pending.isEmpty()) {
+                try {
+                    Posting first = pending.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    pending.drainTo(batch, flushBatchSize - 1);
+                    if (!flush(batch)) {
+                        return;
+                    }
+                    if (journal != null) {
+                        journal.flushedThrough(batch.get(batch.size() - 1).journalSequence());
+                    }
+                    batch.clear();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Grava o lote em uma única transação. Em caso de falha o mesmo lote é
+         * repetido, pois os próximos lançamentos dependem da ordem deste; esgotadas as
+         * tentativas, o shard para.
+         *
+         * @return {@code false} se o shard parou.
+         */
+        private boolean flush(List<Posting> batch) throws InterruptedException {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(batch, false));
+                    return true;
+                } catch (RuntimeException e) {
+                    if (attempt >= flushMaxAttempts) {
+                        stop(batch, e);
+                        return false;
+                    }
+                    log.warn("Falha ao gravar lote de {} lançamentos (tentativa {} de {}), nova tentativa em {} ms",
+                            batch.size(), attempt, flushMaxAttempts, flushRetryBackoffMillis, e);
+                    TimeUnit.MILLISECONDS.sleep(flushRetryBackoffMillis);
+                }
+            }
+        }
+
+        private void stop(List<Posting> batch, RuntimeException cause) {
+            failure = cause;
+            log.error("Shard {} do motor de lançamentos parado: lote de {} lançamentos falhou {} vezes. {} lançamentos aceitos "
+                            + "não foram gravados no banco ({}) e novos lançamentos nas contas do shard serão recusados",
+                    index, batch.size(), flushMaxAttempts, batch.size() + pending.size(),
+                    journal == null ? "sem diário, estão perdidos" : "permanecem no diário para a próxima inicialização",
+                    cause);
+        }
+
+        void shutdown() throws InterruptedException {
+            executor.shutdown();
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+            running = false;
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+            if (journal != null) {
+                journal.close();
+                // Com a fila vazia tudo já está no banco; senão, o diário é reaplicado na próxima inicialização.
+                if (failure == null && pending.isEmpty() && !writer.isAlive()) {
+                    journal.deleteSegments();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de leitura no extrato (paginação por cursor / keyset).
+ *
+ * <p>Guarda o par (timestamp, id) da última linha entregue. A próxima página começa
+ * estritamente depois desse par na ordenação {@code timestamp DESC, id DESC}, de modo
+ * que o banco navega direto pelo índice, sem OFFSET, não importa quão fundo o
+ * cliente esteja no histórico.</p>
+ *
+ * <p>Para o cliente o cursor é um token opaco (Base64 URL-safe).</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+record StatementCursor(LocalDateTime timestamp, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    String encode() {
+        String raw = timestamp.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica o token recebido do cliente.
+     *
+     * @throws InvalidRequestException Se o token não for um cursor válido.
+     */
+    static StatementCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new StatementCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("Cursor de paginação inválido.");
+        }
+    }
+}
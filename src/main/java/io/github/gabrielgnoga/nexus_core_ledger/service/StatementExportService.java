@@ -0,0 +1,91 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.ResourceNotFoundException;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.TransactionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Serviço responsável pela exportação do extrato completo em NDJSON (uma transação por linha).
+ *
+ * <p>As transações são lidas por um {@link Stream} apoiado em cursor do banco (com fetch size
+ * configurado no repositório) e escritas direto na saída da resposta. Como a consulta é uma
+ * projeção em DTO, nenhuma entidade se acumula no contexto de persistência e o consumo de
+ * memória fica constante, seja qual for o tamanho do histórico.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Service
+public class StatementExportService {
+
+    private static final String NEWLINE = "\n";
+
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final ObjectWriter writer;
+
+    public StatementExportService(TransactionRepository transactionRepository,
+                                  AccountRepository accountRepository,
+                                  ObjectMapper objectMapper) {
+        this.transactionRepository = transactionRepository;
+        this.accountRepository = accountRepository;
+        // A saída pertence ao container: o Jackson não deve fechá-la ao terminar.
+        this.writer = objectMapper.writerFor(TransactionResponseDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Garante que a conta existe antes de iniciar a resposta em streaming,
+     * pois depois do primeiro byte não é mais possível devolver um 404.
+     *
+     * @param accountId O ID da conta.
+     * @throws ResourceNotFoundException Se o ID da conta não for encontrado.
+     */
+    public void requireAccount(UUID accountId) {
+        if (!accountRepository.existsById(accountId)) {
+            throw new ResourceNotFoundException("Conta não encontrada com ID: " + accountId);
+        }
+    }
+
+    /**
+     * Escreve todo o extrato da conta na saída, da transação mais recente para a mais antiga.
+     *
+     * <p>A transação de banco somente leitura mantém o cursor aberto durante a escrita
+     * (no PostgreSQL o fetch size só é respeitado com autocommit desligado).</p>
+     *
+     * @param accountId O ID da conta.
+     * @param output A saída da resposta HTTP.
+     */
+    @Transactional(readOnly = true)
+    public void export(UUID accountId, OutputStream output) throws IOException {
+        OutputStream out = new BufferedOutputStream(output);
+        boolean empty = true;
+        try (Stream<TransactionResponseDTO> transactions = transactionRepository.streamStatement(accountId);
+             SequenceWriter lines = writer.withRootValueSeparator(NEWLINE).writeValues(out)) {
+            Iterator<TransactionResponseDTO> iterator = transactions.iterator();
+            while (iterator.hasNext()) {
+                lines.write(iterator.next());
+                empty = false;
+            }
+        }
+        if (!empty) {
+            out.write(NEWLINE.getBytes(StandardCharsets.UTF_8));
+        }
+        out.flush();
+    }
+}
@@ -1,16 +1,25 @@
 package io.github.gabrielgnoga.nexus_core_ledger.service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.github.gabrielgnoga.nexus_core_ledger.domain.model.User;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.HexFormat;
 
 /**
  * Serviço responsável por gerar e validar Tokens JWT.
@@ -18,14 +27,47 @@ import java.time.ZoneOffset;
  * <p>Utiliza a biblioteca Auth0 para criar tokens com tempo de expiração
  * e validar a autenticidade de tokens recebidos nas requisições.</p>
  *
+ * <p>O algoritmo HMAC e o verificador são criados uma única vez (ambos são imutáveis e
+ * thread-safe). Os tokens já verificados ficam em um cache limitado, indexado pelo
+ * SHA-256 do token, até o instante em que expiram: uma requisição com token conhecido
+ * custa um hash e uma consulta ao mapa, em vez de decodificar e verificar a assinatura.</p>
+ *
  * @author Gabriel Gnoga
  * @since 1.0.0
  */
 @Service
 public class TokenService {
 
-    @Value("${api.security.token.secret}")
-    private String secret;
+    private static final String ISSUER = "nexus-core-ledger-api";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    });
+
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public TokenService(@Value("${api.security.token.secret}") String secret,
+                        @Value("${api.security.token.cache-max-size:10000}") long cacheMaxSize) {
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build();
+        this.verifiedTokens = cacheMaxSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheMaxSize)
+                        .expireAfter(new UntilTokenExpires())
+                        .build()
+                : null;
+    }
+
+    /** Resultado de uma verificação bem-sucedida: o dono do token e a sua validade. */
+    private record VerifiedToken(String subject, Instant expiresAt) {}
 
     /**
      * Gera um novo Token JWT para o usuário autenticado.
@@ -35,10 +77,8 @@ public class TokenService {
      */
     public String generateToken(User user) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-
             return JWT.create()
-                    .withIssuer("nexus-core-ledger-api")
+                    .withIssuer(ISSUER)
                     .withSubject(user.getLogin())
                     .withExpiresAt(genExpirationDate())
                     .sign(algorithm);
@@ -56,14 +96,21 @@ public class TokenService {
      * @return O login (e-mail) do usuário, ou uma string vazia se o token for inválido.
      */
     public String validateToken(String token) {
-        try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
+        String digest = null;
+        if (verifiedTokens != null) {
+            digest = digest(token);
+            VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+            if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+                return cached.subject();
+            }
+        }
 
-            return JWT.require(algorithm)
-                    .withIssuer("nexus-core-ledger-api")
-                    .build()
-                    .verify(token)
-                    .getSubject();
+        try {
+            DecodedJWT decoded = verifier.verify(token);
+            if (digest != null && decoded.getExpiresAtAsInstant() != null) {
+                verifiedTokens.put(digest, new VerifiedToken(decoded.getSubject(), decoded.getExpiresAtAsInstant()));
+            }
+            return decoded.getSubject();
 
         } catch (JWTVerificationException exception) {
 
@@ -71,6 +118,10 @@ public class TokenService {
         }
     }
 
+    private static String digest(String token) {
+        return HexFormat.of().formatHex(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
     /**
      * Define a validade do Token (Ex: 2 horas a partir de agora).
      */
@@ -78,4 +129,22 @@ public class TokenService {
         return LocalDateTime.now().plusHours(2).toInstant(ZoneOffset.of("-03:00"));
     }
 
-}
\ No newline at end of file
+    /** Remove cada entrada do cache no instante em que o token expira. */
+    private static final class UntilTokenExpires implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, value.expiresAt().toEpochMilli() - System.currentTimeMillis()) * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.OutboxEvent;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Transaction;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Lado de escrita do outbox transacional: grava um {@code TransactionPosted} para cada
+ * transação lançada, na mesma transação de banco do lançamento.
+ *
+ * <p>O custo no caminho do lançamento é uma inserção a mais (em lote, junto com as
+ * transações); a entrega aos assinantes acontece depois, na thread do {@link OutboxRelay},
+ * que é apenas avisado após o commit.</p>
+ *
+ * <p>Ativado por padrão; desligar com {@code api.ledger.outbox.enabled=false}.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Service
+public class TransactionOutbox {
+
+    static final String TRANSACTION_POSTED = "TransactionPosted";
+
+    private static final String INSERT = """
+            INSERT INTO outbox_events (id, event_type, transaction_id, account_id, chain_seq, type, amount, posted_at, description, journal_entry_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /** Reaplicação do diário: só gera o evento se a transação ainda não tinha sido gravada. */
+    private static final String INSERT_IF_NEW = """
+            INSERT INTO outbox_events (id, event_type, transaction_id, account_id, chain_seq, type, amount, posted_at, description, journal_entry_id)
+            SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?, ? WHERE NOT EXISTS (SELECT 1 FROM transactions WHERE id = ?)
+            """;
+
+    private final OutboxEventRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxRelay relay;
+    private final boolean enabled;
+
+    public TransactionOutbox(OutboxEventRepository repository,
+                             JdbcTemplate jdbcTemplate,
+                             OutboxRelay relay,
+                             @Value("${api.ledger.outbox.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.relay = relay;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Grava os eventos das transações, já persistidas, na transação corrente.
+     *
+     * @param transactions As transações lançadas, na ordem em que foram aplicadas.
+     */
+    public void append(List<Transaction> transactions) {
+        if (!enabled || transactions.isEmpty()) {
+            return;
+        }
+        repository.saveAll(transactions.stream()
+                .map(t -> OutboxEvent.builder()
+                        .eventType(TRANSACTION_POSTED)
+                        .transactionId(t.getId())
+                        .accountId(t.getAccount().getId())
+                        .chainSeq(t.getChainSeq())
+                        .type(t.getType())
+                        .amount(t.getAmount())
+                        .postedAt(t.getTimestamp())
+                        .description(t.getDescription())
+                        .journalEntryId(t.getJournalEntryId())
+                        .build())
+                .toList());
+        signalAfterCommit(transactions.size());
+    }
+
+    /**
+     * Grava por SQL os eventos das transações gravadas pelo motor de lançamentos.
+     *
+     * <p>Na reaplicação do diário deve ser chamado antes da inserção das transações:
+     * transações que já estavam no banco não geram evento de novo.</p>
+     *
+     * @param events Os eventos, na ordem em que as transações foram aplicadas.
+     * @param replay {@code true} durante a reaplicação do diário.
+     */
+    public void appendWritten(List<TransactionPostedEvent> events, boolean replay) {
+        if (!enabled || events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(replay ? INSERT_IF_NEW : INSERT, events, events.size(), (ps, e) -> {
+            ps.setObject(1, e.eventId());
+            ps.setString(2, TRANSACTION_POSTED);
+            ps.setObject(3, e.transactionId());
+            ps.setObject(4, e.accountId());
+            ps.setObject(5, e.chainSeq());
+            ps.setString(6, e.type().name());
+            ps.setBigDecimal(7, e.amount());
+            ps.setTimestamp(8, Timestamp.valueOf(e.timestamp()));
+            ps.setString(9, e.description());
+            ps.setObject(10, e.journalEntryId());
+            if (replay) {
+                ps.setObject(11, e.transactionId());
+            }
+        });
+        signalAfterCommit(events.size());
+    }
+
+    private void signalAfterCommit(int events) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            relay.signal(events);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.signal(events);
+            }
+        });
+    }
+}
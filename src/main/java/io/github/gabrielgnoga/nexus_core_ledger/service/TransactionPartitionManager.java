@@ -0,0 +1,278 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Particionamento mensal da tabela {@code transactions} por {@code timestamp} (PostgreSQL).
+ *
+ * <p>Com {@code api.ledger.partitioning.enabled=true} e banco PostgreSQL:</p>
+ * <ul>
+ * <li>Na primeira inicialização, antes do Hibernate, cria {@code transactions} como tabela
+ * particionada ({@code PARTITION BY RANGE (timestamp)}), com uma partição {@code DEFAULT}
+ * para datas sem partição própria. A chave primária passa a ser {@code (id, timestamp)},
+ * exigência do PostgreSQL para tabelas particionadas. A DDL traz todas as colunas e índices
+ * da entidade, sem depender do {@code ddl-auto}.</li>
+ * <li>Na inicialização e diariamente, cria as partições do mês atual e dos
+ * {@code months-ahead} meses seguintes ({@code transactions_pAAAA_MM}). Linhas do mês que já
+ * estejam na partição {@code DEFAULT} (ex.: após uma parada maior que {@code months-ahead})
+ * são movidas para a nova partição na mesma transação em que ela é anexada; uma falha num
+ * mês é registrada em log e não impede os demais nem a inicialização.</li>
+ * <li>Com {@code retention-months > 0}, desanexa ({@code DETACH PARTITION}) as partições mais
+ * antigas que a retenção: operação só de catálogo, sem {@code DELETE} em massa. A tabela
+ * desanexada continua no banco para arquivamento ou {@code DROP}. Saldos em datas posteriores
+ * continuam corretos, pois partem dos checkpoints diários. Na mesma transação, o último elo
+ * da cadeia de hashes de cada conta na partição é gravado em {@code chain_anchors}, de onde
+ * parte a verificação de integridade.</li>
+ * </ul>
+ *
+ * <p>Em outros bancos (H2) ou com uma tabela {@code transactions} comum já existente, nada é
+ * alterado: a tabela continua única e as consultas funcionam da mesma forma.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Slf4j
+@Component
+public class TransactionPartitionManager {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("transactions_p(\\d{4})_(\\d{2})");
+
+    private static final String CREATE_PARTITIONED_TABLE = """
+            CREATE TABLE IF NOT EXISTS transactions (
+                id uuid NOT NULL,
+                amount numeric(19,4) NOT NULL,
+                type varchar(255) NOT NULL CHECK (type IN ('CREDIT','DEBIT')),
+                timestamp timestamp(6) NOT NULL,
+                description varchar(255),
+                account_id uuid NOT NULL,
+                journal_entry_id uuid,
+                chain_seq bigint,
+                chain_hash bytea,
+                PRIMARY KEY (id, timestamp)
+            ) PARTITION BY RANGE (timestamp)
+            """;
+
+    private static final String CREATE_DEFAULT_PARTITION =
+            "CREATE TABLE IF NOT EXISTS transactions_default PARTITION OF transactions DEFAULT";
+
+    private static final String CREATE_STATEMENT_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_transactions_account_timestamp ON transactions (account_id, timestamp DESC, id DESC)";
+
+    private static final String PARTITION_EXISTS = "SELECT to_regclass(?) IS NOT NULL";
+
+    private static final String CREATE_CHAIN_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_transactions_account_chain ON transactions (account_id, chain_seq)";
+
+    /** Usada pela retenção, que pode rodar antes de o Hibernate criar as demais tabelas. */
+    private static final String CREATE_CHAIN_ANCHORS = """
+            CREATE TABLE IF NOT EXISTS chain_anchors (
+                account_id uuid NOT NULL PRIMARY KEY,
+                chain_seq bigint NOT NULL,
+                chain_hash bytea NOT NULL
+            )
+            """;
+
+    private static final String TABLE_KIND =
+            "SELECT c.relkind FROM pg_class c WHERE c.relname = 'transactions' AND pg_table_is_visible(c.oid)";
+
+    private static final String LIST_PARTITIONS = """
+            SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'transactions'::regclass
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    private volatile boolean active;
+
+    public TransactionPartitionManager(JdbcTemplate jdbcTemplate,
+                                       @Value("${api.ledger.partitioning.enabled:false}") boolean enabled,
+                                       @Value("${api.ledger.partitioning.months-ahead:3}") int monthsAhead,
+                                       @Value("${api.ledger.partitioning.retention-months:0}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Gerenciador JDBC próprio: este componente é criado antes do EntityManagerFactory.
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+        this.enabled = enabled;
+        this.monthsAhead = Math.max(0, monthsAhead);
+        this.retentionMonths = Math.max(0, retentionMonths);
+    }
+
+    /**
+     * Faz o {@code EntityManagerFactory} esperar a criação da tabela particionada, para que o
+     * {@code ddl-auto} do Hibernate não a crie antes como tabela comum.
+     */
+    @Component
+    static class BeforeJpa extends EntityManagerFactoryDependsOnPostProcessor {
+        BeforeJpa() {
+            super(TransactionPartitionManager.class);
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        String database = databaseProductName();
+        if (!"PostgreSQL".equalsIgnoreCase(database)) {
+            log.info("Particionamento de transações indisponível em {}; a tabela continua única", database);
+            return;
+        }
+
+        String kind = jdbcTemplate.query(TABLE_KIND, rs -> rs.next() ? rs.getString(1) : null);
+        if (kind == null) {
+            jdbcTemplate.execute(CREATE_PARTITIONED_TABLE);
+            jdbcTemplate.execute(CREATE_DEFAULT_PARTITION);
+            jdbcTemplate.execute(CREATE_STATEMENT_INDEX);
+            jdbcTemplate.execute(CREATE_CHAIN_INDEX);
+            log.info("Tabela transactions criada com particionamento mensal por timestamp");
+        } else if (!"p".equals(kind)) {
+            log.warn("A tabela transactions já existe e não é particionada; migre os dados para ativar o particionamento");
+            return;
+        }
+        jdbcTemplate.execute(CREATE_CHAIN_ANCHORS);
+        active = true;
+        maintain();
+    }
+
+    /**
+     * Cria as partições futuras e desanexa as que passaram da retenção.
+     */
+    @Scheduled(cron = "${api.ledger.partitioning.maintenance-cron:0 15 0 * * *}")
+    public void maintain() {
+        if (!active) {
+            return;
+        }
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                createPartition(month);
+            } catch (DataAccessException e) {
+                log.error("Falha ao criar a partição {}; nova tentativa na próxima manutenção", partitionName(month), e);
+            }
+        }
+
+        if (retentionMonths > 0) {
+            YearMonth oldestKept = current.minusMonths(retentionMonths);
+            List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS, String.class);
+            for (String partition : partitions) {
+                YearMonth month = partitionMonth(partition);
+                if (month != null && month.isBefore(oldestKept)) {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        jdbcTemplate.update(recordAnchorsSql(partition));
+                        jdbcTemplate.execute("ALTER TABLE transactions DETACH PARTITION " + partition);
+                    });
+                    log.info("Partição {} desanexada (retenção de {} meses)", partition, retentionMonths);
+                }
+            }
+        }
+    }
+
+    /**
+     * Cria e anexa a partição do mês, trazendo as linhas do mês que estavam na partição
+     * {@code DEFAULT}. Sem isso o PostgreSQL recusa a nova partição, pois a {@code DEFAULT}
+     * já teria linhas no intervalo dela.
+     */
+    void createPartition(YearMonth month) {
+        String partition = partitionName(month);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(PARTITION_EXISTS, Boolean.class, partition))) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute(createPartitionSql(month));
+            int moved = jdbcTemplate.update(moveFromDefaultSql(month));
+            jdbcTemplate.execute(attachPartitionSql(month));
+            if (moved > 0) {
+                log.info("Partição {} criada com {} transações movidas da partição DEFAULT", partition, moved);
+            }
+        });
+    }
+
+    /**
+     * Nome da partição de um mês: {@code transactions_pAAAA_MM}.
+     */
+    static String partitionName(YearMonth month) {
+        return String.format(Locale.ROOT, "transactions_p%04d_%02d", month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * DDL da tabela de um mês, ainda fora da tabela particionada, com as mesmas colunas e restrições.
+     */
+    static String createPartitionSql(YearMonth month) {
+        return "CREATE TABLE " + partitionName(month)
+                + " (LIKE transactions INCLUDING DEFAULTS INCLUDING CONSTRAINTS)";
+    }
+
+    /**
+     * Move para a tabela do mês as linhas do mês que estão na partição {@code DEFAULT}.
+     */
+    static String moveFromDefaultSql(YearMonth month) {
+        return "WITH moved AS (DELETE FROM transactions_default WHERE " + monthRange(month) + " RETURNING *)"
+                + " INSERT INTO " + partitionName(month) + " SELECT * FROM moved";
+    }
+
+    /**
+     * Anexa a tabela do mês, com limite inferior inclusivo e superior exclusivo.
+     */
+    static String attachPartitionSql(YearMonth month) {
+        return "ALTER TABLE transactions ATTACH PARTITION " + partitionName(month)
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+
+    private static String monthRange(YearMonth month) {
+        return "timestamp >= '" + month.atDay(1) + "' AND timestamp < '" + month.plusMonths(1).atDay(1) + "'";
+    }
+
+    /**
+     * Grava, para cada conta com lançamentos na partição, o seu último elo como âncora da
+     * cadeia, salvo se a âncora existente já for posterior.
+     */
+    static String recordAnchorsSql(String partition) {
+        return "INSERT INTO chain_anchors (account_id, chain_seq, chain_hash)"
+                + " SELECT DISTINCT ON (account_id) account_id, chain_seq, chain_hash FROM " + partition
+                + " WHERE chain_seq IS NOT NULL ORDER BY account_id, chain_seq DESC"
+                + " ON CONFLICT (account_id) DO UPDATE SET chain_seq = EXCLUDED.chain_seq, chain_hash = EXCLUDED.chain_hash"
+                + " WHERE chain_anchors.chain_seq < EXCLUDED.chain_seq";
+    }
+
+    /**
+     * Mês de uma partição pelo nome, ou {@code null} se não for uma partição mensal.
+     */
+    static YearMonth partitionMonth(String partition) {
+        Matcher matcher = PARTITION_NAME.matcher(partition);
+        return matcher.matches()
+                ? YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)))
+                : null;
+    }
+
+    private String databaseProductName() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                    metaData -> metaData.getDatabaseProductName());
+        } catch (MetaDataAccessException e) {
+            log.warn("Não foi possível identificar o banco; particionamento desativado", e);
+            return "desconhecido";
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento publicado para cada transação confirmada no ledger.
+ *
+ * <p>A entrega é "pelo menos uma vez": o mesmo evento pode chegar de novo após uma falha.
+ * Os assinantes devem descartar repetições pelo {@code transactionId} (ou pelo par
+ * {@code accountId}/{@code chainSeq}).</p>
+ *
+ * @param eventId ID do evento no outbox.
+ * @param transactionId ID da transação lançada.
+ * @param accountId ID da conta movimentada.
+ * @param chainSeq Posição da transação na cadeia da conta; cresce a cada lançamento da conta.
+ * @param type Direção do lançamento.
+ * @param amount Valor lançado.
+ * @param timestamp Data e hora do lançamento.
+ * @param description Descrição da transação.
+ * @param journalEntryId ID da partida dobrada, ou {@code null} para transações avulsas.
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+public record TransactionPostedEvent(
+        UUID eventId,
+        UUID transactionId,
+        UUID accountId,
+        Long chainSeq,
+        TransactionType type,
+        BigDecimal amount,
+        LocalDateTime timestamp,
+        String description,
+        UUID journalEntryId
+) {
+}
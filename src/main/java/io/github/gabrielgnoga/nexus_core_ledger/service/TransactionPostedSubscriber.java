@@ -0,0 +1,26 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import java.util.List;
+
+/**
+ * Assinante dos eventos {@link TransactionPostedEvent}, entregues pelo {@link OutboxRelay}.
+ *
+ * <p>Basta registrar uma implementação como bean do Spring. Os eventos chegam em lotes,
+ * na ordem em que foram gravados (e, portanto, em ordem crescente de {@code chainSeq}
+ * para cada conta), sempre a partir da mesma thread.</p>
+ *
+ * <p>Se o método lançar uma exceção, o lote inteiro é entregue novamente, a todos os
+ * assinantes, depois de um intervalo de espera.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+public interface TransactionPostedSubscriber {
+
+    /**
+     * Recebe um lote de eventos.
+     *
+     * @param events Os eventos, na ordem de gravação.
+     */
+    void onTransactionsPosted(List<TransactionPostedEvent> events);
+}
@@ -1,20 +1,26 @@
 package io.github.gabrielgnoga.nexus_core_ledger.service;
 
+import io.github.gabrielgnoga.nexus_core_ledger.dto.ContentionStatsDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.StatementPageDTO;
 import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
 import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO;
 import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
 import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Transaction;
 import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
 import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
 import io.github.gabrielgnoga.nexus_core_ledger.repository.TransactionRepository;
 import io.github.gabrielgnoga.nexus_core_ledger.exception.InsufficientBalanceException;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.InvalidRequestException;
 import io.github.gabrielgnoga.nexus_core_ledger.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -34,68 +40,198 @@ public class TransactionService {
 
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
+    private final ShardedPostingEngine postingEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final OptimisticRetryExecutor optimisticRetry;
+    private final GroupCommitExecutor groupCommit;
+    private final BalanceCheckpointService balanceCheckpointService;
+    private final TransactionOutbox transactionOutbox;
+    private final IdempotencyService idempotencyService;
+    private final LedgerMetrics metrics;
+
+    @Value("${api.ledger.statement.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${api.ledger.statement.max-page-size:500}")
+    private int maxPageSize;
 
     /**
      * Processa e registra uma nova transação financeira.
      *
+     * <p>Quando o motor de lançamentos em memória ({@link ShardedPostingEngine}) está ativo,
+     * a transação é delegada a ele. Caso contrário, segue o fluxo JPA tradicional
+     * dentro de uma transação de banco, repetida automaticamente quando outro
+     * lançamento altera a mesma conta ao mesmo tempo (conflito de versão).</p>
+     *
+     * <p>Com o commit em grupo ativo ({@link GroupCommitExecutor}), lançamentos simultâneos
+     * dividem a mesma transação de banco; se o grupo não for confirmado, o lançamento é
+     * refeito sozinho pelo fluxo acima.</p>
+     *
      * @param data DTO contendo os dados da transação (conta, valor, tipo).
      * @return DTO com os dados da transação processada e salva.
      * @throws ResourceNotFoundException Se o ID da conta não for encontrado.
      * @throws InsufficientBalanceException Se a operação for um DÉBITO e o saldo for insuficiente.
+     * @throws OptimisticLockingFailureException Se os conflitos persistirem após todas as tentativas.
      */
-    @Transactional
     public TransactionResponseDTO create(TransactionRequestDTO data) {
+        return create(data, null);
+    }
+
+    /**
+     * Processa uma transação protegida por chave de idempotência.
+     *
+     * <p>A primeira requisição com a chave é lançada normalmente e a chave é gravada na
+     * mesma transação de banco. As repetições devolvem o resultado original, sem ler a
+     * conta nem alterar o saldo.</p>
+     *
+     * <p>Não suportado com o motor de lançamentos ativo: o motor grava a transação de forma
+     * assíncrona, fora de qualquer transação em que a chave pudesse ser gravada junto.</p>
+     *
+     * @param data DTO contendo os dados da transação (conta, valor, tipo).
+     * @param idempotencyKey O valor do cabeçalho {@code Idempotency-Key}, ou {@code null}.
+     * @return DTO com os dados da transação processada (ou da original, em caso de repetição).
+     * @throws InvalidRequestException Se a chave já tiver sido usada com outra requisição ou
+     *         se o motor em memória estiver ativo.
+     */
+    public TransactionResponseDTO create(TransactionRequestDTO data, String idempotencyKey) {
+        return metrics.time(LedgerMetrics.CREATE, () -> idempotencyKey == null
+                ? postOnce(data)
+                : postIdempotent(data, idempotencyKey));
+    }
+
+    private TransactionResponseDTO postOnce(TransactionRequestDTO data) {
+        if (postingEngine.isEnabled()) {
+            return postingEngine.post(data);
+        }
+        if (groupCommit.isEnabled()) {
+            return groupCommit.execute(() -> post(data),
+                    () -> optimisticRetry.execute(() -> transactionTemplate.execute(status -> post(data))));
+        }
+        return optimisticRetry.execute(() -> transactionTemplate.execute(status -> post(data)));
+    }
+
+    private TransactionResponseDTO postIdempotent(TransactionRequestDTO data, String idempotencyKey) {
+        if (postingEngine.isEnabled()) {
+            throw new InvalidRequestException("Idempotency-Key não é suportado com o motor de lançamentos ativo.");
+        }
+        return idempotencyService.execute(idempotencyKey, data,
+                () -> optimisticRetry.execute(() -> transactionTemplate.execute(status -> {
+                    TransactionResponseDTO response = post(data);
+                    idempotencyService.record(idempotencyKey, data, response);
+                    return response;
+                })));
+    }
+
+    private TransactionResponseDTO post(TransactionRequestDTO data) {
 
         Account account = accountRepository.findById(data.accountId())
                 .orElseThrow(() -> new ResourceNotFoundException("Conta não encontrada com ID: " + data.accountId()));
 
+        Money amount = Money.of(data.amount());
         Transaction transaction = new Transaction();
-        transaction.setAmount(data.amount());
+        transaction.setAmount(amount);
         transaction.setType(data.type());
         transaction.setDescription(data.description());
-        transaction.setTimestamp(LocalDateTime.now());
+        transaction.setTimestamp(Transaction.currentTimestamp());
         transaction.setAccount(account);
 
         if (account.getBalance() == null) {
-            account.setBalance(BigDecimal.ZERO);
+            account.setBalance(Money.ZERO);
         }
 
-        if (transaction.getType() == TransactionType.CREDIT) {
-            account.setBalance(account.getBalance().add(data.amount()));
-        } else {
-            BigDecimal novoSaldo = account.getBalance().subtract(data.amount());
-
-            if (novoSaldo.compareTo(BigDecimal.ZERO) < 0) {
-                throw new InsufficientBalanceException(
-                        "Saldo insuficiente para realizar a operação. Saldo atual: " + account.getBalance()
-                );
-            }
-            account.setBalance(novoSaldo);
-        }
+        account.setBalance(applyPosting(account.getBalance(), data.type(), amount));
 
         accountRepository.save(account);
         transactionRepository.save(transaction);
+        balanceCheckpointService.onPostings(List.of(transaction));
+        transactionOutbox.append(List.of(transaction));
 
         return TransactionResponseDTO.fromEntity(transaction);
     }
 
     /**
-     * Retorna o extrato completo de uma conta (Histórico de transações).
+     * Regra de saldo compartilhada por todos os caminhos de lançamento.
+     *
+     * <p>Aritmética de ponto fixo em {@code long} ({@link Money}), sem criar {@code BigDecimal}.</p>
+     *
+     * @param balance O saldo atual da conta.
+     * @param type A direção da operação.
+     * @param amount O valor (sempre positivo) da operação.
+     * @return O novo saldo após o lançamento.
+     * @throws InsufficientBalanceException Se for um DÉBITO maior que o saldo atual.
+     * @throws io.github.gabrielgnoga.nexus_core_ledger.exception.AmountOutOfRangeException Se o novo saldo não couber em {@code numeric(19,4)}.
+     */
+    static Money applyPosting(Money balance, TransactionType type, Money amount) {
+        if (type == TransactionType.CREDIT) {
+            return balance.plus(amount);
+        }
+
+        Money novoSaldo = balance.minus(amount);
+
+        if (novoSaldo.isNegative()) {
+            throw new InsufficientBalanceException(
+                    "Saldo insuficiente para realizar a operação. Saldo atual: " + balance
+            );
+        }
+        return novoSaldo;
+    }
+
+    /**
+     * Retorna uma página do extrato de uma conta (Histórico de transações).
+     *
+     * <p>A paginação é feita por cursor (keyset) sobre o par (timestamp, id), por isso o
+     * custo de cada página é constante, independentemente do tamanho do histórico.</p>
      *
      * @param accountId O ID da conta.
-     * @return Lista de transações ordenadas da mais recente para a mais antiga.
+     * @param cursor O cursor devolvido pela página anterior, ou {@code null} para a primeira página.
+     * @param limit Tamanho da página, ou {@code null} para o padrão configurado.
+     * @return Página de transações ordenadas da mais recente para a mais antiga.
+     * @throws ResourceNotFoundException Se o ID da conta não for encontrado.
+     * @throws InvalidRequestException Se o cursor for inválido.
      */
-    public List<TransactionResponseDTO> getStatement(UUID accountId) {
+    @Transactional(readOnly = true)
+    public StatementPageDTO getStatement(UUID accountId, String cursor, Integer limit) {
+        StatementPageDTO page = metrics.time(LedgerMetrics.STATEMENT, () -> statementPage(accountId, cursor, limit));
+        metrics.recordStatementSize(page.items().size());
+        return page;
+    }
+
+    private StatementPageDTO statementPage(UUID accountId, String cursor, Integer limit) {
+
+        int pageSize = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        // Uma linha a mais indica se existe próxima página, sem precisar de COUNT.
+        Limit fetch = Limit.of(pageSize + 1);
 
+        List<TransactionResponseDTO> items;
+        if (cursor == null || cursor.isBlank()) {
+            items = transactionRepository.findStatementFirstPage(accountId, fetch);
+        } else {
+            StatementCursor after = StatementCursor.decode(cursor);
+            items = transactionRepository.findStatementPageAfter(accountId, after.timestamp(), after.id(), fetch);
+        }
 
-        if (!accountRepository.existsById(accountId)) {
+        // A existência da conta só precisa ser consultada quando a página vem vazia:
+        // uma página com linhas já prova que a conta existe (uma única consulta por página).
+        if (items.isEmpty() && !accountRepository.existsById(accountId)) {
             throw new ResourceNotFoundException("Conta não encontrada com ID: " + accountId);
         }
 
-        List<Transaction> transactions = transactionRepository.findByAccountIdOrderByTimestampDesc(accountId);
+        String nextCursor = null;
+        if (items.size() > pageSize) {
+            items = items.subList(0, pageSize);
+            TransactionResponseDTO last = items.get(pageSize - 1);
+            nextCursor = new StatementCursor(last.timestamp(), last.id()).encode();
+        }
 
-        return transactions.stream()
-                .map(TransactionResponseDTO::fromEntity)
-                .toList();
+        return new StatementPageDTO(items, nextCursor);
+    }
+
+    /**
+     * Retorna os contadores de conflitos de versão e retentativas dos lançamentos.
+     *
+     * @return DTO com os contadores acumulados desde a inicialização.
+     */
+    public ContentionStatsDTO getContentionStats() {
+        return optimisticRetry.stats();
     }
 }
\ No newline at end of file
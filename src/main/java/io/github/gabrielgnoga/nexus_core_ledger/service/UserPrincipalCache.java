@@ -0,0 +1,97 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.listener.UserChangeListener;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache dos usuários autenticados, indexado pelo login.
+ *
+ * <p>Evita uma consulta ao banco por requisição no {@code SecurityFilter}. As entradas
+ * expiram após o TTL configurado e são removidas explicitamente sempre que o
+ * {@link io.github.gabrielgnoga.nexus_core_ledger.domain.model.User} correspondente é
+ * alterado (ver {@link UserChangeListener}).</p>
+ *
+ * <p>O valor guardado é uma cópia imutável do usuário (login, hash da senha e permissões), e
+ * não a entidade JPA, que não pode ser compartilhada entre threads. A consulta ao banco de
+ * uma entrada ausente é feita fora do {@code compute} do Caffeine, que prenderia a thread
+ * virtual ao lock durante a consulta; uma carga concorrente com uma invalidação não fica no
+ * cache.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserDetails> principals;
+
+    /** Incrementado a cada invalidação, antes de remover a entrada. */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              @Value("${api.security.principal-cache.max-size:10000}") long maxSize,
+                              @Value("${api.security.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.principals = ttlSeconds > 0 && maxSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                        .build()
+                : null;
+    }
+
+    /**
+     * Busca o usuário pelo login, consultando o banco apenas quando não está em cache.
+     *
+     * @param login O login (e-mail) do usuário.
+     * @return O usuário, ou {@code null} se não existir.
+     */
+    public UserDetails get(String login) {
+        if (principals == null) {
+            return load(login);
+        }
+        UserDetails cached = principals.getIfPresent(login);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = invalidations.get();
+        UserDetails loaded = load(login);
+        // Usuários inexistentes não são guardados.
+        if (loaded != null) {
+            principals.put(login, loaded);
+            // Houve invalidação durante a carga: o valor lido pode ser anterior a ela.
+            if (invalidations.get() != stamp) {
+                principals.asMap().remove(login, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Remove o usuário do cache, forçando a próxima requisição a recarregá-lo do banco.
+     *
+     * @param login O login (e-mail) do usuário.
+     */
+    public void invalidate(String login) {
+        if (principals != null && login != null) {
+            invalidations.incrementAndGet();
+            principals.invalidate(login);
+        }
+    }
+
+    private UserDetails load(String login) {
+        UserDetails user = userRepository.findByLogin(login);
+        return user == null ? null : User.withUserDetails(user).build();
+    }
+}
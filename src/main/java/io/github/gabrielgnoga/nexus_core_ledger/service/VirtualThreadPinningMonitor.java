@@ -0,0 +1,110 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.dto.PinningStatsDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Detecta virtual threads presas à carrier thread ("pinning").
+ *
+ * <p>Uma virtual thread que bloqueia dentro de um bloco {@code synchronized} (comum em
+ * drivers JDBC) ou de código nativo não libera a carrier thread, e com poucas carriers
+ * isso reintroduz a fila que as virtual threads deveriam eliminar. Este componente assina
+ * o evento JFR {@code jdk.VirtualThreadPinned} em processo, registra cada ocorrência acima
+ * do limite configurado em log e agrega os locais de origem.</p>
+ *
+ * <p>Só é ativado quando {@code spring.threads.virtual.enabled=true} e
+ * {@code api.ledger.virtual-threads.pinning-diagnostics.enabled=true}.</p>
+ *
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int TOP_SITES = 10;
+
+    private final boolean enabled;
+    private final Duration threshold;
+
+    private final LongAdder events = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final Map<String, LongAdder> sites = new ConcurrentHashMap<>();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                       @Value("${api.ledger.virtual-threads.pinning-diagnostics.enabled:true}") boolean diagnostics,
+                                       @Value("${api.ledger.virtual-threads.pinning-diagnostics.threshold-millis:20}") long thresholdMillis) {
+        this.enabled = virtualThreads && diagnostics;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Diagnóstico de pinning de virtual threads ativo (limite {} ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = originSite(event.getStackTrace());
+        events.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+        sites.computeIfAbsent(site, s -> new LongAdder()).increment();
+        log.warn("Virtual thread presa à carrier thread por {} ms em {}", event.getDuration().toMillis(), site);
+    }
+
+    /**
+     * Primeiro frame fora do JDK: é ali que está o {@code synchronized} ou a chamada nativa.
+     */
+    private static String originSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "desconhecido";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        RecordedFrame top = stackTrace.getFrames().isEmpty() ? null : stackTrace.getFrames().get(0);
+        return top == null ? "desconhecido" : top.getMethod().getType().getName() + "." + top.getMethod().getName();
+    }
+
+    public PinningStatsDTO stats() {
+        Map<String, Long> top = new LinkedHashMap<>();
+        sites.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .limit(TOP_SITES)
+                .forEach(e -> top.put(e.getKey(), e.getValue().sum()));
+        return new PinningStatsDTO(enabled, events.sum(), Duration.ofNanos(pinnedNanos.sum()).toMillis(), top);
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.gabrielgnoga.nexus_core_ledger.domain.model;
+
+import io.github.gabrielgnoga.nexus_core_ledger.exception.AmountOutOfRangeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para {@link Money} e {@link MoneyConverter}.
+ * <p>
+ * Garante a conversão exata de/para {@code numeric(19,4)} e que estouros e casas
+ * decimais excedentes são rejeitados em vez de arredondados.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+class MoneyTest {
+
+    private final MoneyConverter converter = new MoneyConverter();
+
+    @Test
+    @DisplayName("Deve converter de e para decimal com escala 4 sem perda")
+    void of_ShouldRoundTripThroughDecimalColumn() {
+        Money money = Money.of(new BigDecimal("150.50"));
+
+        assertEquals(1_505_000L, money.minorUnits());
+        assertEquals(new BigDecimal("150.5000"), converter.convertToDatabaseColumn(money));
+        assertEquals(money, converter.convertToEntityAttribute(new BigDecimal("150.5000")));
+        assertEquals(Money.of(new BigDecimal("-0.0001")), new Money(-1));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    @DisplayName("Deve somar, subtrair e comparar em unidades mínimas")
+    void arithmetic_ShouldOperateOnMinorUnits() {
+        Money balance = Money.of(new BigDecimal("100.00"));
+        Money amount = Money.of(new BigDecimal("100.0001"));
+
+        assertEquals(new BigDecimal("200.0001"), balance.plus(amount).toBigDecimal());
+        assertTrue(balance.minus(amount).isNegative());
+        assertEquals("-0.0001", balance.minus(amount).toString());
+        assertTrue(amount.compareTo(balance) > 0);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar mais de 4 casas decimais e estouros de long")
+    void of_ShouldThrow_WhenValueDoesNotFit() {
+        assertThrows(AmountOutOfRangeException.class, () -> Money.of(new BigDecimal("0.00001")));
+        assertThrows(AmountOutOfRangeException.class, () -> Money.of(new BigDecimal("1000000000000000")));
+        assertThrows(AmountOutOfRangeException.class, () -> new Money(Long.MAX_VALUE).plus(new Money(1)));
+        assertThrows(AmountOutOfRangeException.class, () -> new Money(Long.MIN_VALUE).minus(new Money(1)));
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.gabrielgnoga.nexus_core_ledger.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para {@link UuidV7Generator}.
+ * <p>
+ * Garante o formato RFC 9562 e a ordem estritamente crescente, inclusive entre threads.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("Deve gerar UUIDs versão 7 com o instante atual nos 48 bits iniciais")
+    void next_ShouldProduceVersion7WithCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7Generator.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue((id.getMostSignificantBits() >>> 16) >= before);
+    }
+
+    @Test
+    @DisplayName("Deve gerar valores estritamente crescentes mesmo com várias threads no mesmo milissegundo")
+    void next_ShouldBeStrictlyIncreasing_AcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        List<Future<List<UUID>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                List<UUID> ids = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(UuidV7Generator.next());
+                }
+                return ids;
+            }));
+        }
+
+        Set<UUID> all = new HashSet<>();
+        for (Future<List<UUID>> future : futures) {
+            List<UUID> ids = future.get();
+            for (int i = 1; i < ids.size(); i++) {
+                assertTrue(ids.get(i).compareTo(ids.get(i - 1)) > 0);
+            }
+            all.addAll(ids);
+        }
+        pool.shutdown();
+
+        assertEquals(threads * perThread, all.size());
+    }
+}
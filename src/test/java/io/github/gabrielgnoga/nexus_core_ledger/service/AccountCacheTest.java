@@ -0,0 +1,83 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.AccountResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.CreateAccountDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o {@link AccountCache}.
+ * <p>
+ * Garante que a leitura de uma conta em cache não consulta o banco e que lançamentos,
+ * alterações e remoções atualizam o cache no commit, sem servir saldo antigo.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AccountCacheTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Leituras devem vir do cache e refletir lançamentos, alterações e remoções já confirmados")
+    void findAccountById_ShouldServeFromCache_AndFollowCommittedWrites() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        UUID id = accountService.createAccount(new CreateAccountDTO("Conta Cache", AccountType.ASSET)).id();
+
+        statistics.clear();
+        assertEquals("Conta Cache", name(id));
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        transactionService.create(new TransactionRequestDTO(id, new BigDecimal("42.50"), TransactionType.CREDIT, "Crédito"));
+        statistics.clear();
+        assertEquals(0, new BigDecimal("42.50").compareTo(balance(id)));
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        accountService.updateAccount(id, new CreateAccountDTO("Conta Renomeada", AccountType.ASSET));
+        assertEquals("Conta Renomeada", name(id));
+        assertEquals(0, new BigDecimal("42.50").compareTo(balance(id)));
+
+        UUID emptyId = accountService.createAccount(new CreateAccountDTO("Conta Removida", AccountType.ASSET)).id();
+        assertEquals("Conta Removida", name(emptyId));
+        accountService.deleteAccount(emptyId);
+        assertTrue(accountService.findAccountById(emptyId).isEmpty());
+
+        assertTrue(meterRegistry.get("ledger.account_cache.hit_ratio").gauge().value() > 0);
+    }
+
+    private String name(UUID id) {
+        return accountService.findAccountById(id).map(AccountResponseDTO::name).orElseThrow();
+    }
+
+    private BigDecimal balance(UUID id) {
+        return accountService.findAccountById(id).map(AccountResponseDTO::balance).orElseThrow();
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.AccountPageDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.InvalidRequestException;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para a listagem paginada de {@link AccountService}.
+ * <p>
+ * Garante que a paginação por cursor respeita os filtros, não repete nem perde
+ * contas e lê cada página com uma única consulta, sem carregar entidades.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AccountServiceListingTest {
+
+    // Moeda exclusiva de cada teste, para não enxergar contas criadas por outros testes.
+    private final String currency = "X" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final Set<UUID> assets = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Account account = new Account();
+            account.setName("Conta Listagem " + i);
+            account.setAccountType(i % 3 == 0 ? AccountType.LIABILITY : AccountType.ASSET);
+            account.setCurrency(currency);
+            accounts.add(account);
+        }
+        accountRepository.saveAll(accounts).stream()
+                .filter(a -> a.getAccountType() == AccountType.ASSET)
+                .forEach(a -> assets.add(a.getId()));
+    }
+
+    @Test
+    @DisplayName("Deve percorrer as contas filtradas por cursor, sem repetir nem perder nenhuma")
+    void listAccounts_ShouldWalkFilteredAccounts_WhenFollowingCursors() {
+        Set<UUID> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            AccountPageDTO page = accountService.listAccounts(AccountType.ASSET, currency.toLowerCase(), cursor, 3);
+            assertTrue(page.items().size() <= 3);
+            page.items().forEach(item -> {
+                assertEquals(AccountType.ASSET, item.accountType());
+                assertTrue(seen.add(item.id()));
+            });
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertTrue(seen.containsAll(assets));
+        assertEquals(assets.size(), seen.size());
+        assertTrue(pages >= 3);
+    }
+
+    @Test
+    @DisplayName("Cada página da listagem deve executar uma única instrução SQL, sem carregar entidades")
+    void listAccounts_ShouldRunSingleQuery_WithoutLoadingEntities() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        AccountPageDTO first = accountService.listAccounts(null, currency, null, 5);
+        assertEquals(5, first.items().size());
+        assertNotNull(first.nextCursor());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        statistics.clear();
+        accountService.listAccounts(null, currency, first.nextCursor(), 5);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Cada combinação de filtros deve usar a sua consulta, sem predicados IS NULL")
+    void listAccounts_ShouldUseDedicatedQuery_ForEachFilterCombination() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertEquals(12, accountService.listAccounts(null, currency, null, 50).items().size());
+        accountService.listAccounts(AccountType.LIABILITY, null, null, 50).items()
+                .forEach(item -> assertEquals(AccountType.LIABILITY, item.accountType()));
+        assertEquals(4, accountService.listAccounts(AccountType.LIABILITY, currency, null, 50).items().size());
+        assertFalse(accountService.listAccounts(null, null, null, 50).items().isEmpty());
+
+        String[] queries = statistics.getQueries();
+        assertEquals(4, queries.length);
+        for (String query : queries) {
+            assertFalse(query.toUpperCase().contains("IS NULL"), query);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar um cursor malformado")
+    void listAccounts_ShouldThrow_WhenCursorIsInvalid() {
+        assertThrows(InvalidRequestException.class,
+                () -> accountService.listAccounts(null, null, "nao-e-um-cursor", 10));
+    }
+}
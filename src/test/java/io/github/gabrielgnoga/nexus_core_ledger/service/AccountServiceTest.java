@@ -2,14 +2,15 @@ package io.github.gabrielgnoga.nexus_core_ledger.service;
 
 import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
 import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
 import io.github.gabrielgnoga.nexus_core_ledger.dto.AccountResponseDTO;
 import io.github.gabrielgnoga.nexus_core_ledger.dto.CreateAccountDTO;
 import io.github.gabrielgnoga.nexus_core_ledger.mapper.AccountMapper;
 import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -37,21 +38,30 @@ class AccountServiceTest {
     @Mock
     private AccountMapper accountMapper;
 
-    @InjectMocks
+    @Mock
+    private ShardedPostingEngine postingEngine;
+
     private AccountService accountService;
 
+    @BeforeEach
+    void setUp() {
+        // Cache desativado (tamanho 0): as leituras vão direto ao repositório mockado.
+        accountService = new AccountService(accountRepository, accountMapper,
+                new AccountCache(accountRepository, accountMapper, 0), postingEngine);
+    }
+
     @Test
     @DisplayName("Deve criar uma conta com sucesso e retornar o DTO correto")
     void createAccount_ShouldReturnDto_WhenDataIsValid() {
         CreateAccountDTO inputDto = new CreateAccountDTO();
         inputDto.setName("Conta Nubank");
-        inputDto.setAccountType("ASSET");
+        inputDto.setAccountType(AccountType.ASSET);
 
         Account savedAccount = new Account();
         savedAccount.setId(UUID.randomUUID());
         savedAccount.setName("Conta Nubank");
         savedAccount.setAccountType(AccountType.ASSET);
-        savedAccount.setBalance(BigDecimal.ZERO);
+        savedAccount.setBalance(Money.of(BigDecimal.ZERO));
 
         // O que o mapper "deveria" retornar
         AccountResponseDTO expectedDto = new AccountResponseDTO(
@@ -66,8 +76,8 @@ class AccountServiceTest {
 
         // validar
         assertNotNull(result);
-        assertEquals("Conta Nubank", result.getName());
-        assertEquals(AccountType.ASSET, result.getAccountType());
+        assertEquals("Conta Nubank", result.name());
+        assertEquals(AccountType.ASSET, result.accountType());
 
         // verificar o save
         verify(accountRepository, times(1)).save(any(Account.class));
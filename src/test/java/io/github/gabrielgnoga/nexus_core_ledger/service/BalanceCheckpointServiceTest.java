@@ -0,0 +1,123 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.BalanceCheckpoint;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.BalanceAsOfDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.BatchMode;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.CreateAccountDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.BalanceCheckpointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para {@link BalanceCheckpointService}.
+ * <p>
+ * Valida que o saldo em data passada, calculado a partir do checkpoint mais próximo,
+ * coincide com o saldo acumulado lançamento a lançamento.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "api.ledger.checkpoint.every-postings=3"
+})
+class BalanceCheckpointServiceTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BalanceCheckpointService balanceCheckpointService;
+
+    @Autowired
+    private BatchTransactionService batchTransactionService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private BalanceCheckpointRepository checkpointRepository;
+
+    @Test
+    @DisplayName("Deve calcular o saldo em qualquer data reaplicando apenas as transações após o checkpoint")
+    void balanceAsOf_ShouldMatchRunningBalance_AtEveryPosting() {
+        Account account = new Account();
+        account.setName("Conta Checkpoint");
+        account.setAccountType(AccountType.ASSET);
+        UUID accountId = accountRepository.save(account).getId();
+
+        List<TransactionResponseDTO> postings = new ArrayList<>();
+        List<BigDecimal> runningBalances = new ArrayList<>();
+        BigDecimal running = BigDecimal.ZERO;
+        for (int i = 1; i <= 10; i++) {
+            TransactionType type = i % 4 == 0 ? TransactionType.DEBIT : TransactionType.CREDIT;
+            BigDecimal amount = BigDecimal.valueOf(i);
+            postings.add(transactionService.create(new TransactionRequestDTO(accountId, amount, type, "Lançamento " + i)));
+            running = type == TransactionType.CREDIT ? running.add(amount) : running.subtract(amount);
+            runningBalances.add(running);
+        }
+
+        for (int i = 0; i < postings.size(); i++) {
+            BalanceAsOfDTO result = balanceCheckpointService.balanceAsOf(accountId, postings.get(i).timestamp());
+            assertEquals(0, runningBalances.get(i).compareTo(result.balance()), "Saldo divergente no lançamento " + (i + 1));
+            assertTrue(result.replayedPostings() < 3);
+        }
+
+        BalanceAsOfDTO beforeFirst = balanceCheckpointService.balanceAsOf(accountId, postings.get(0).timestamp().minusSeconds(1));
+        assertEquals(0, beforeFirst.balance().compareTo(BigDecimal.ZERO));
+        assertNull(beforeFirst.checkpointAsOf());
+    }
+
+    @Test
+    @DisplayName("Deve contar os lançamentos pela cadeia da conta, ignorando alterações cadastrais e contando cada item de lote")
+    void onPostings_ShouldCountChainSequence_NotAccountVersion() {
+        Account account = new Account();
+        account.setName("Conta Checkpoint Contador");
+        account.setAccountType(AccountType.ASSET);
+        UUID accountId = accountRepository.save(account).getId();
+
+        transactionService.create(new TransactionRequestDTO(accountId, BigDecimal.ONE, TransactionType.CREDIT, "Lançamento 1"));
+        accountService.updateAccount(accountId, new CreateAccountDTO("Conta Checkpoint Renomeada", AccountType.ASSET));
+        transactionService.create(new TransactionRequestDTO(accountId, BigDecimal.ONE, TransactionType.CREDIT, "Lançamento 2"));
+        assertTrue(checkpoints(accountId).isEmpty());
+
+        // Lançamentos 3 a 7 em um único lote: passa pelos múltiplos 3 e 6, um checkpoint após o lote.
+        List<TransactionRequestDTO> items = new ArrayList<>();
+        for (int i = 3; i <= 7; i++) {
+            items.add(new TransactionRequestDTO(accountId, BigDecimal.ONE, TransactionType.CREDIT, "Lançamento " + i));
+        }
+        batchTransactionService.createBatch(items, BatchMode.ALL_OR_NOTHING);
+        assertEquals(List.of(new BigDecimal("7.0000")), checkpoints(accountId));
+
+        transactionService.create(new TransactionRequestDTO(accountId, BigDecimal.ONE, TransactionType.CREDIT, "Lançamento 8"));
+        transactionService.create(new TransactionRequestDTO(accountId, BigDecimal.ONE, TransactionType.CREDIT, "Lançamento 9"));
+        assertEquals(List.of(new BigDecimal("7.0000"), new BigDecimal("9.0000")), checkpoints(accountId));
+    }
+
+    private List<BigDecimal> checkpoints(UUID accountId) {
+        return checkpointRepository.findAll().stream()
+                .filter(c -> c.getAccountId().equals(accountId))
+                .sorted(Comparator.comparing(BalanceCheckpoint::getAsOf))
+                .map(c -> c.getBalance().toBigDecimal())
+                .toList();
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.CreateAccountDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TrialBalanceDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para {@link BalanceRollupService}.
+ * <p>
+ * Garante que o balancete lido dos totalizadores coincide com a soma das contas,
+ * depois de lançamentos (inclusive concorrentes), troca de tipo, remoção e
+ * gravações feitas por SQL pelo motor de lançamentos.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "api.ledger.rollups.slots=4"
+})
+class BalanceRollupServiceTest {
+
+    @Autowired
+    private BalanceRollupService balanceRollupService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Deve manter o balancete igual à soma das contas após lançamentos, troca de tipo e remoção")
+    void trialBalance_ShouldMatchAccountSums_AfterPostingsAndChanges() throws Exception {
+        String currency = uniqueCurrency();
+        List<UUID> assets = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            assets.add(newAccount(currency, AccountType.ASSET, "100").getId());
+        }
+        UUID revenue = newAccount(currency, AccountType.REVENUE, "0").getId();
+        UUID equity = newAccount(currency, AccountType.EQUITY, "50").getId();
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (UUID assetId : assets) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 1; i <= 10; i++) {
+                        TransactionType type = i % 3 == 0 ? TransactionType.DEBIT : TransactionType.CREDIT;
+                        transactionService.create(new TransactionRequestDTO(assetId, BigDecimal.valueOf(i), type, "Lançamento " + i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        transactionService.create(new TransactionRequestDTO(revenue, new BigDecimal("75.5"), TransactionType.CREDIT, "Receita"));
+
+        CreateAccountDTO reclassified = new CreateAccountDTO();
+        reclassified.setName("Despesa reclassificada");
+        reclassified.setAccountType(AccountType.EXPENSE);
+        accountService.updateAccount(revenue, reclassified);
+        accountService.deleteAccount(equity);
+
+        TrialBalanceDTO report = balanceRollupService.trialBalance(currency);
+
+        assertEquals(expected(currency), actual(report));
+        assertEquals(List.of(AccountType.ASSET, AccountType.EXPENSE),
+                report.lines().stream().map(TrialBalanceDTO.Line::accountType).toList());
+        assertEquals(0, new BigDecimal("75.5").compareTo(report.lines().get(1).balance()));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar no balancete os saldos gravados por SQL pelo motor de lançamentos")
+    void applyBalances_ShouldMoveTotals_ForSqlWrites() {
+        String currency = uniqueCurrency();
+        UUID first = newAccount(currency, AccountType.LIABILITY, "10").getId();
+        UUID second = newAccount(currency, AccountType.LIABILITY, "20").getId();
+
+        Map<UUID, Money> balances = Map.of(
+                first, Money.of(new BigDecimal("15.25")),
+                second, Money.of(new BigDecimal("5")));
+        transactionTemplate.executeWithoutResult(status -> {
+            balanceRollupService.applyBalances(balances);
+            balances.forEach((id, balance) ->
+                    jdbcTemplate.update("UPDATE accounts SET balance = ? WHERE id = ?", balance.toBigDecimal(), id));
+        });
+
+        TrialBalanceDTO report = balanceRollupService.trialBalance(currency);
+        assertEquals(expected(currency), actual(report));
+        assertEquals(0, new BigDecimal("20.25").compareTo(report.lines().get(0).balance()));
+        assertEquals(2, report.lines().get(0).accounts());
+    }
+
+    private Account newAccount(String currency, AccountType type, String balance) {
+        Account account = new Account();
+        account.setName("Conta " + type);
+        account.setAccountType(type);
+        account.setCurrency(currency);
+        account.setBalance(Money.of(new BigDecimal(balance)));
+        return accountRepository.save(account);
+    }
+
+    private Map<AccountType, String> expected(String currency) {
+        Map<AccountType, Money> balances = new TreeMap<>();
+        Map<AccountType, Long> counts = new TreeMap<>();
+        for (Account account : accountRepository.findAll()) {
+            if (currency.equals(account.getCurrency())) {
+                balances.merge(account.getAccountType(), account.getBalance(), Money::plus);
+                counts.merge(account.getAccountType(), 1L, Long::sum);
+            }
+        }
+        Map<AccountType, String> expected = new TreeMap<>();
+        balances.forEach((type, balance) -> expected.put(type, counts.get(type) + ":" + balance.toBigDecimal()));
+        return expected;
+    }
+
+    private static Map<AccountType, String> actual(TrialBalanceDTO report) {
+        Map<AccountType, String> actual = new TreeMap<>();
+        report.lines().forEach(line -> actual.put(line.accountType(),
+                line.accounts() + ":" + Money.of(line.balance()).toBigDecimal()));
+        return actual;
+    }
+
+    private static String uniqueCurrency() {
+        return "T" + UUID.randomUUID().toString().substring(0, 6).toUpperCase();
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.BatchItemResultDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.BatchMode;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.BatchTransactionResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para {@link BatchTransactionService}.
+ * <p>
+ * Valida os modos de falha ALL_OR_NOTHING e PARTIAL em um lote com um item inválido,
+ * inclusive quando o item rejeitado estoura o saldo máximo.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class BatchTransactionServiceTest {
+
+    @Autowired
+    private BatchTransactionService batchTransactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        Account account = new Account();
+        account.setName("Conta Lote");
+        account.setAccountType(AccountType.ASSET);
+        account.setBalance(Money.of(new BigDecimal("100.00")));
+        accountId = accountRepository.save(account).getId();
+    }
+
+    private List<TransactionRequestDTO> batchWithOverdraft() {
+        return List.of(
+                new TransactionRequestDTO(accountId, new BigDecimal("50.00"), TransactionType.CREDIT, "Crédito"),
+                new TransactionRequestDTO(accountId, new BigDecimal("500.00"), TransactionType.DEBIT, "Débito acima do saldo"),
+                new TransactionRequestDTO(accountId, new BigDecimal("30.00"), TransactionType.DEBIT, "Débito")
+        );
+    }
+
+    @Test
+    @DisplayName("ALL_OR_NOTHING deve desfazer o lote inteiro quando um item é rejeitado")
+    void createBatch_ShouldRollbackEverything_WhenAllOrNothingAndOneItemFails() {
+        BatchTransactionResponseDTO response = batchTransactionService.createBatch(batchWithOverdraft(), BatchMode.ALL_OR_NOTHING);
+
+        assertFalse(response.committed());
+        assertEquals(BatchItemResultDTO.Status.ROLLED_BACK, response.items().get(0).status());
+        assertEquals(BatchItemResultDTO.Status.REJECTED, response.items().get(1).status());
+        assertEquals(0, accountRepository.findById(accountId).orElseThrow().getBalance().toBigDecimal().compareTo(new BigDecimal("100.00")));
+        assertTrue(transactionRepository.findByAccountIdOrderByTimestampDesc(accountId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("PARTIAL deve gravar os itens válidos e reportar os rejeitados")
+    void createBatch_ShouldKeepValidItems_WhenPartialAndOneItemFails() {
+        BatchTransactionResponseDTO response = batchTransactionService.createBatch(batchWithOverdraft(), BatchMode.PARTIAL);
+
+        assertTrue(response.committed());
+        assertEquals(2, response.accepted());
+        assertEquals(1, response.rejected());
+        assertNotNull(response.items().get(2).transaction());
+        assertEquals(0, accountRepository.findById(accountId).orElseThrow().getBalance().toBigDecimal().compareTo(new BigDecimal("120.00")));
+        assertEquals(2, transactionRepository.findByAccountIdOrderByTimestampDesc(accountId).size());
+    }
+
+    @Test
+    @DisplayName("PARTIAL deve rejeitar apenas o item cujo saldo resultante estoura o limite")
+    void createBatch_ShouldRejectOnlyOverflowingItem_WhenPartial() {
+        Account full = new Account();
+        full.setName("Conta Lote Saldo Máximo");
+        full.setAccountType(AccountType.ASSET);
+        full.setBalance(new Money(Long.MAX_VALUE));
+        UUID fullId = accountRepository.save(full).getId();
+
+        BatchTransactionResponseDTO response = batchTransactionService.createBatch(List.of(
+                new TransactionRequestDTO(fullId, BigDecimal.ONE, TransactionType.CREDIT, "Estouro"),
+                new TransactionRequestDTO(accountId, BigDecimal.TEN, TransactionType.CREDIT, "Crédito")
+        ), BatchMode.PARTIAL);
+
+        assertTrue(response.committed());
+        assertEquals(1, response.accepted());
+        assertEquals(BatchItemResultDTO.Status.REJECTED, response.items().get(0).status());
+        assertEquals(0, accountRepository.findById(accountId).orElseThrow().getBalance().toBigDecimal().compareTo(new BigDecimal("110.00")));
+        assertEquals(Long.MAX_VALUE, accountRepository.findById(fullId).orElseThrow().getBalance().minorUnits());
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.InsufficientBalanceException;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.TransactionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o commit em grupo ({@link GroupCommitExecutor}) nos lançamentos.
+ * <p>
+ * Garante que lançamentos simultâneos dividem transações de banco sem perder atualizações
+ * e que cada chamador recebe o seu próprio resultado, inclusive as rejeições. Com o executor
+ * parado ou após um {@link Error} no grupo, o chamador recebe a operação de reserva em vez de
+ * ficar bloqueado.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "api.ledger.group-commit.enabled=true",
+        "api.ledger.group-commit.max-wait-micros=2000",
+        "logging.level.org.hibernate.orm.jdbc.batch=OFF"
+})
+class GroupCommitExecutorTest {
+
+    private static final int THREADS = 16;
+    private static final int DEBITS = 400;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Débitos simultâneos devem ser confirmados em grupos, com saldo exato e rejeições individuais")
+    void create_ShouldCommitInGroups_AndKeepPerCallerResults() throws Exception {
+        Account account = new Account();
+        account.setName("Conta Commit em Grupo");
+        account.setAccountType(AccountType.ASSET);
+        account.setBalance(Money.of(new BigDecimal("300.00")));
+        UUID accountId = accountRepository.save(account).getId();
+
+        double commitsBefore = meterRegistry.get("ledger.group_commit.commits").functionCounter().count();
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < DEBITS; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    transactionService.create(new TransactionRequestDTO(
+                            accountId, BigDecimal.ONE, TransactionType.DEBIT, "Débito em grupo"));
+                    accepted.incrementAndGet();
+                } catch (InsufficientBalanceException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        double commits = meterRegistry.get("ledger.group_commit.commits").functionCounter().count() - commitsBefore;
+
+        assertEquals(300, accepted.get());
+        assertEquals(100, rejected.get());
+        assertEquals(0, accountRepository.findById(accountId).orElseThrow().getBalance().signum());
+        assertEquals(300, transactionRepository.findByAccountIdOrderByTimestampDesc(accountId).size());
+        assertTrue(commits < DEBITS, "Esperava menos commits que lançamentos, foram " + commits);
+    }
+
+    @Test
+    @DisplayName("Depois do stop(), a operação deve ir direto para a reserva, sem esperar um committer")
+    void execute_ShouldRunFallback_WhenStopped() throws Exception {
+        GroupCommitExecutor executor = standaloneExecutor();
+        executor.start();
+        assertEquals("grupo", executor.execute(() -> "grupo", () -> "reserva"));
+
+        executor.stop();
+
+        assertEquals("reserva", assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> executor.execute(() -> "grupo", () -> "reserva")));
+    }
+
+    @Test
+    @DisplayName("Um Error no grupo deve liberar os chamadores pela reserva e manter o committer ativo")
+    void execute_ShouldRunFallback_WhenGroupFailsWithError() throws Exception {
+        GroupCommitExecutor executor = standaloneExecutor();
+        executor.start();
+        try {
+            assertEquals("reserva", assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> executor.execute(() -> {
+                        throw new StackOverflowError();
+                    }, () -> "reserva")));
+
+            assertEquals("grupo", assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> executor.execute(() -> "grupo", () -> "reserva")));
+        } finally {
+            executor.stop();
+        }
+    }
+
+    private static GroupCommitExecutor standaloneExecutor() {
+        PlatformTransactionManager transactionManager = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+        return new GroupCommitExecutor(new TransactionTemplate(transactionManager), true, 8, 100, 1);
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.JournalEntryRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.JournalLegDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.InvalidRequestException;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para {@link JournalEntryService}.
+ * <p>
+ * Valida a checagem de balanceamento e que transferências simultâneas em sentidos
+ * opostos terminam sem deadlock e sem alterar o total das contas.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class JournalEntryServiceTest {
+
+    private static final int TRANSFERS = 200;
+
+    @Autowired
+    private JournalEntryService journalEntryService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private UUID accountA;
+    private UUID accountB;
+
+    @BeforeEach
+    void setUp() {
+        accountA = newAccount("Conta A");
+        accountB = newAccount("Conta B");
+    }
+
+    private UUID newAccount(String name) {
+        Account account = new Account();
+        account.setName(name);
+        account.setAccountType(AccountType.ASSET);
+        account.setBalance(Money.of(new BigDecimal("1000.00")));
+        return accountRepository.save(account).getId();
+    }
+
+    private JournalEntryRequestDTO transfer(UUID from, UUID to, BigDecimal amount) {
+        return new JournalEntryRequestDTO("Transferência", List.of(
+                new JournalLegDTO(from, amount, TransactionType.DEBIT),
+                new JournalLegDTO(to, amount, TransactionType.CREDIT)));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar um lançamento desbalanceado sem movimentar nenhuma conta")
+    void create_ShouldThrow_WhenLegsAreNotBalanced() {
+        JournalEntryRequestDTO unbalanced = new JournalEntryRequestDTO("Desbalanceado", List.of(
+                new JournalLegDTO(accountA, new BigDecimal("10.00"), TransactionType.DEBIT),
+                new JournalLegDTO(accountB, new BigDecimal("9.99"), TransactionType.CREDIT)));
+
+        assertThrows(InvalidRequestException.class, () -> journalEntryService.create(unbalanced));
+        assertTrue(transactionRepository.findByAccountIdOrderByTimestampDesc(accountA).isEmpty());
+        assertEquals(0, accountRepository.findById(accountA).orElseThrow().getBalance().toBigDecimal().compareTo(new BigDecimal("1000.00")));
+    }
+
+    @Test
+    @DisplayName("Transferências simultâneas em sentidos opostos não devem gerar deadlock")
+    void create_ShouldNotDeadlock_WhenTransfersRunInOppositeDirections() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < TRANSFERS; i++) {
+            boolean forward = i % 2 == 0;
+            futures.add(pool.submit(() -> {
+                start.await();
+                journalEntryService.create(forward
+                        ? transfer(accountA, accountB, BigDecimal.ONE)
+                        : transfer(accountB, accountA, BigDecimal.ONE));
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        BigDecimal balanceA = accountRepository.findById(accountA).orElseThrow().getBalance().toBigDecimal();
+        BigDecimal balanceB = accountRepository.findById(accountB).orElseThrow().getBalance().toBigDecimal();
+
+        assertEquals(0, balanceA.compareTo(new BigDecimal("1000.00")));
+        assertEquals(0, balanceB.compareTo(new BigDecimal("1000.00")));
+        assertEquals(TRANSFERS, transactionRepository.findByAccountIdOrderByTimestampDesc(accountA).size());
+    }
+}
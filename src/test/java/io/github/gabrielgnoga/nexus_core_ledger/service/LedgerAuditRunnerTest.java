@@ -0,0 +1,83 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.dto.LedgerAuditDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.LedgerAuditJobDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para {@link LedgerAuditRunner}.
+ * <p>
+ * Garante que só uma auditoria completa roda por vez, que o resultado fica disponível ao
+ * terminar e que uma falha encerra a execução como {@code FAILED}.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+class LedgerAuditRunnerTest {
+
+    private static final LedgerAuditDTO RESULT = new LedgerAuditDTO(true, 3, 30, 5, List.of());
+
+    private static LedgerAuditJobDTO awaitFinished(LedgerAuditRunner runner) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (runner.last().orElseThrow().status() == LedgerAuditJobDTO.Status.RUNNING
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return runner.last().orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Deve devolver a execução em andamento em vez de iniciar outra auditoria")
+    void start_ShouldRunOneAuditAtATime() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        LedgerIntegrityVerifier verifier = mock(LedgerIntegrityVerifier.class);
+        when(verifier.verifyAll()).thenAnswer(invocation -> {
+            runs.incrementAndGet();
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            return RESULT;
+        });
+        LedgerAuditRunner runner = new LedgerAuditRunner(verifier);
+        assertTrue(runner.last().isEmpty());
+
+        LedgerAuditJobDTO first = runner.start();
+        assertEquals(LedgerAuditJobDTO.Status.RUNNING, first.status());
+        assertEquals(first.id(), runner.start().id());
+
+        release.countDown();
+        LedgerAuditJobDTO finished = awaitFinished(runner);
+        assertEquals(first.id(), finished.id());
+        assertEquals(LedgerAuditJobDTO.Status.COMPLETED, finished.status());
+        assertEquals(RESULT, finished.result());
+        assertEquals(1, runs.get());
+
+        assertNotEquals(first.id(), runner.start().id());
+        awaitFinished(runner);
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    @DisplayName("Deve encerrar a execução como FAILED quando a auditoria falha")
+    void start_ShouldRecordFailure() throws Exception {
+        LedgerIntegrityVerifier verifier = mock(LedgerIntegrityVerifier.class);
+        when(verifier.verifyAll()).thenThrow(new IllegalStateException("Banco indisponível"));
+        LedgerAuditRunner runner = new LedgerAuditRunner(verifier);
+
+        runner.start();
+        LedgerAuditJobDTO finished = awaitFinished(runner);
+
+        assertEquals(LedgerAuditJobDTO.Status.FAILED, finished.status());
+        assertEquals("Banco indisponível", finished.error());
+        assertNull(finished.result());
+    }
+}
@@ -0,0 +1,164 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.User;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.UserRole;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.JournalEntryRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.JournalLegDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.LedgerAuditDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração para {@link LedgerIntegrityVerifier}.
+ * <p>
+ * Valida que os lançamentos de todos os caminhos formam uma cadeia íntegra por conta e
+ * que a alteração ou remoção direta de uma linha no banco é detectada, inclusive depois da
+ * retenção de partições. A auditoria completa pela API exige o perfil ADMIN.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+class LedgerIntegrityVerifierTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private JournalEntryService journalEntryService;
+
+    @Autowired
+    private LedgerIntegrityVerifier verifier;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Test
+    @DisplayName("Deve aceitar cadeias íntegras e apontar lançamentos alterados ou removidos")
+    void verify_ShouldDetectEditedAndDeletedPostings() {
+        UUID edited = newAccount("Conta Auditoria A");
+        UUID deleted = newAccount("Conta Auditoria B");
+        for (int i = 1; i <= 5; i++) {
+            transactionService.create(new TransactionRequestDTO(edited, BigDecimal.valueOf(i), TransactionType.CREDIT, "Crédito " + i));
+            journalEntryService.create(new JournalEntryRequestDTO("Transferência " + i, List.of(
+                    new JournalLegDTO(edited, BigDecimal.ONE, TransactionType.DEBIT),
+                    new JournalLegDTO(deleted, BigDecimal.ONE, TransactionType.CREDIT))));
+        }
+
+        LedgerAuditDTO clean = verifier.verifyAccount(edited);
+        assertTrue(clean.intact());
+        assertEquals(10, clean.postingsChecked());
+        assertTrue(verifier.verifyAccount(deleted).intact());
+
+        jdbcTemplate.update("UPDATE transactions SET amount = amount + 1 WHERE account_id = ? AND chain_seq = 3", edited);
+        jdbcTemplate.update("DELETE FROM transactions WHERE account_id = ? AND chain_seq = 5", deleted);
+
+        LedgerAuditDTO audit = verifier.verifyAll();
+        assertFalse(audit.intact());
+        assertTrue(audit.accountsChecked() >= 2);
+        assertTrue(audit.brokenChains().contains(
+                new LedgerAuditDTO.BrokenChain(edited, 3, "Hash divergente: lançamento alterado")));
+        assertTrue(audit.brokenChains().contains(
+                new LedgerAuditDTO.BrokenChain(deleted, 5, "Cadeia truncada: lançamentos ausentes até a ponta da conta")));
+    }
+
+    @Test
+    @DisplayName("Deve verificar a partir da âncora de retenção quando os lançamentos mais antigos saíram da tabela")
+    void verify_ShouldStartFromRetentionAnchor() {
+        UUID accountId = newAccount("Conta Auditoria Retenção");
+        for (int i = 1; i <= 5; i++) {
+            transactionService.create(new TransactionRequestDTO(accountId, BigDecimal.valueOf(i), TransactionType.CREDIT, "Crédito " + i));
+        }
+
+        // Simula a retenção: o último elo removido vira a âncora da cadeia.
+        byte[] anchorHash = jdbcTemplate.queryForObject(
+                "SELECT chain_hash FROM transactions WHERE account_id = ? AND chain_seq = 3", byte[].class, accountId);
+        jdbcTemplate.update("INSERT INTO chain_anchors (account_id, chain_seq, chain_hash) VALUES (?, 3, ?)", accountId, anchorHash);
+        jdbcTemplate.update("DELETE FROM transactions WHERE account_id = ? AND chain_seq <= 3", accountId);
+
+        LedgerAuditDTO audit = verifier.verifyAccount(accountId);
+        assertTrue(audit.intact());
+        assertEquals(2, audit.postingsChecked());
+
+        jdbcTemplate.update("DELETE FROM chain_anchors WHERE account_id = ?", accountId);
+        assertEquals(List.of(new LedgerAuditDTO.BrokenChain(accountId, 1, "Lançamento ausente na cadeia")),
+                verifier.verifyAccount(accountId).brokenChains());
+    }
+
+    @Test
+    @DisplayName("Auditoria completa pela API deve exigir ADMIN e rodar em segundo plano")
+    void auditEndpoint_ShouldRequireAdmin_AndRunInBackground() throws Exception {
+        String user = bearer("auditoria-usuario-" + UUID.randomUUID(), UserRole.USER);
+        String admin = bearer("auditoria-admin-" + UUID.randomUUID(), UserRole.ADMIN);
+
+        mockMvc.perform(post("/v1/diagnostics/ledger-audit").header("Authorization", user))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/v1/diagnostics/ledger-audit").header("Authorization", user))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/v1/diagnostics/ledger-audit").header("Authorization", admin))
+                .andExpect(status().isAccepted());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        String state;
+        do {
+            Thread.sleep(20);
+            state = mockMvc.perform(get("/v1/diagnostics/ledger-audit").header("Authorization", admin))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+        } while (state.contains("\"RUNNING\"") && System.currentTimeMillis() < deadline);
+
+        mockMvc.perform(get("/v1/diagnostics/ledger-audit").header("Authorization", admin))
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.result.accountsChecked").isNumber());
+    }
+
+    private String bearer(String login, UserRole role) {
+        User user = new User(login, "senha");
+        user.setRole(role);
+        return "Bearer " + tokenService.generateToken(userRepository.save(user));
+    }
+
+    private UUID newAccount(String name) {
+        Account account = new Account();
+        account.setName(name);
+        account.setAccountType(AccountType.ASSET);
+        account.setBalance(Money.of(new BigDecimal("100.00")));
+        return accountRepository.save(account).getId();
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.User;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.InsufficientBalanceException;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração para as métricas de {@link LedgerMetrics}.
+ * <p>
+ * Garante que lançamentos, rejeições e páginas de extrato alimentam os medidores, e que
+ * a exportação para o Prometheus exige autenticação.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class LedgerMetricsTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Test
+    @DisplayName("Deve exigir autenticação para as métricas do Prometheus e manter o health público")
+    void prometheus_ShouldRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+
+        User user = userRepository.save(new User("metricas-" + UUID.randomUUID(), "senha"));
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + tokenService.generateToken(user)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Deve medir lançamentos, contar saldo insuficiente e registrar o tamanho do extrato")
+    void create_ShouldFeedTimersCountersAndHistograms() {
+        Account account = new Account();
+        account.setName("Conta Métricas");
+        account.setAccountType(AccountType.ASSET);
+        UUID accountId = accountRepository.save(account).getId();
+
+        transactionService.create(new TransactionRequestDTO(accountId, BigDecimal.TEN, TransactionType.CREDIT, "Crédito"));
+        assertThrows(InsufficientBalanceException.class, () -> transactionService.create(
+                new TransactionRequestDTO(accountId, BigDecimal.valueOf(50), TransactionType.DEBIT, "Débito")));
+        transactionService.getStatement(accountId, null, 10);
+
+        assertTrue(registry.get(LedgerMetrics.CREATE).tag("outcome", "success").timer().count() >= 1);
+        assertTrue(registry.get("ledger.exceptions")
+                .tag("exception", "InsufficientBalanceException")
+                .tag("operation", LedgerMetrics.CREATE)
+                .counter().count() >= 1);
+        assertTrue(registry.get("ledger.statement.size").summary().count() >= 1);
+        assertNotNull(registry.find("ledger.optimistic.conflicts").functionCounter());
+    }
+}
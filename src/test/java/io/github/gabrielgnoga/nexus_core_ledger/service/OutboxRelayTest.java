@@ -0,0 +1,129 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.OutboxEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o outbox transacional ({@link TransactionOutbox} e {@link OutboxRelay}).
+ * <p>
+ * Usa um banco próprio, para que o relay de outros contextos de teste não consuma os eventos.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:nexus_outbox",
+        "api.ledger.outbox.batch-size=8",
+        "api.ledger.outbox.linger-ms=2",
+        "api.ledger.outbox.poll-interval-ms=200",
+        "api.ledger.outbox.retry-backoff-ms=20"
+})
+class OutboxRelayTest {
+
+    private static final List<TransactionPostedEvent> DELIVERED = new CopyOnWriteArrayList<>();
+    private static final List<Integer> BATCH_SIZES = new CopyOnWriteArrayList<>();
+    private static final AtomicBoolean FAIL_NEXT = new AtomicBoolean(true);
+
+    @TestConfiguration
+    static class Subscribers {
+
+        /** Falha na primeira entrega, para exercitar a nova tentativa do mesmo lote. */
+        @Bean
+        TransactionPostedSubscriber recordingSubscriber() {
+            return events -> {
+                if (FAIL_NEXT.compareAndSet(true, false)) {
+                    throw new IllegalStateException("Assinante indisponível");
+                }
+                BATCH_SIZES.add(events.size());
+                DELIVERED.addAll(events);
+            };
+        }
+    }
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    @DisplayName("Deve entregar cada lançamento confirmado, em lotes e na ordem de cada conta, mesmo após falha do assinante")
+    void relay_ShouldDeliverEveryPosting_InAccountOrder() throws Exception {
+        List<UUID> accountIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Account account = new Account();
+            account.setName("Conta Outbox " + i);
+            account.setAccountType(AccountType.ASSET);
+            accountIds.add(accountRepository.save(account).getId());
+        }
+
+        Set<UUID> posted = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(accountIds.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (UUID accountId : accountIds) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 20; i++) {
+                        posted.add(transactionService.create(new TransactionRequestDTO(
+                                accountId, BigDecimal.ONE, TransactionType.CREDIT, "Evento " + i)).id());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (DELIVERED.size() < posted.size() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(posted.size(), DELIVERED.size());
+        Set<UUID> delivered = new HashSet<>();
+        DELIVERED.forEach(event -> assertTrue(delivered.add(event.transactionId())));
+        assertEquals(posted, delivered);
+        assertTrue(BATCH_SIZES.stream().allMatch(size -> size <= 8));
+
+        Map<UUID, Long> lastSeq = new HashMap<>();
+        for (TransactionPostedEvent event : DELIVERED) {
+            Long previous = lastSeq.put(event.accountId(), event.chainSeq());
+            assertTrue(previous == null || event.chainSeq() > previous, "Eventos fora de ordem na conta " + event.accountId());
+        }
+        assertFalse(FAIL_NEXT.get());
+        assertEquals(0, outboxEventRepository.count());
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.PostingChain;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Transaction;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.UuidV7Generator;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para {@link PostingJournal} e para a reaplicação do diário pelo {@link ShardedPostingEngine}.
+ * <p>
+ * Garante que os registros voltam idênticos do arquivo, que uma escrita interrompida no
+ * fim do segmento é descartada e que, na inicialização, o que ficou no diário é gravado
+ * no banco exatamente uma vez.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class PostingJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountCache accountCache;
+
+    @Autowired
+    private BalanceRollupService balanceRollupService;
+
+    @Autowired
+    private TransactionOutbox transactionOutbox;
+
+    @Autowired
+    private BalanceCheckpointService balanceCheckpointService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private static TransactionResponseDTO posting(UUID accountId, String amount, String description) {
+        return new TransactionResponseDTO(UuidV7Generator.next(), Money.of(new BigDecimal(amount)),
+                TransactionType.CREDIT, Transaction.currentTimestamp(), description, accountId);
+    }
+
+    private static PostingChain.Link chain(PostingChain.Link previous, TransactionResponseDTO t) {
+        return PostingChain.next(previous, t.accountId(), t.type(), Money.of(t.amount()), t.timestamp(), t.description(), null);
+    }
+
+    @Test
+    @DisplayName("Deve ler os registros na ordem de escrita e descartar um registro incompleto no fim")
+    void readAll_ShouldReturnRecords_AndDropTornTail() throws Exception {
+        UUID accountId = UUID.randomUUID();
+        TransactionResponseDTO first = posting(accountId, "10.50", "Primeiro");
+        TransactionResponseDTO second = posting(accountId, "0.0001", null);
+        PostingChain.Link firstLink = chain(PostingChain.Link.START, first);
+        PostingChain.Link secondLink = chain(firstLink, second);
+
+        try (PostingJournal journal = new PostingJournal(directory, 0, PostingJournal.FsyncPolicy.GROUP, 1 << 20)) {
+            journal.append(first, Money.of(new BigDecimal("10.50")), firstLink).durable().join();
+            journal.append(second, Money.of(new BigDecimal("10.5001")), secondLink).durable().join();
+        }
+
+        // Simula uma escrita interrompida: cabeçalho de um terceiro registro sem o payload.
+        Path segment = directory.resolve("shard-0-0.journal");
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.allocate(8).putInt(0, 120));
+        }
+
+        List<ShardedPostingEngine.Posting> postings = PostingJournal.readAll(directory);
+
+        assertEquals(2, postings.size());
+        assertEquals(first, postings.get(0).transaction());
+        assertEquals(second, postings.get(1).transaction());
+        assertEquals(Money.of(new BigDecimal("10.5001")), postings.get(1).balanceAfter());
+        assertEquals(2, postings.get(1).chain().seq());
+        assertArrayEquals(secondLink.hash(), postings.get(1).chain().hash());
+    }
+
+    @Test
+    @DisplayName("Deve gravar no banco, na inicialização, os lançamentos que ficaram no diário")
+    void start_ShouldReplayJournal_IntoDatabaseExactlyOnce() throws Exception {
+        Account account = new Account();
+        account.setName("Conta Diário");
+        account.setAccountType(AccountType.ASSET);
+        UUID accountId = accountRepository.save(account).getId();
+
+        TransactionResponseDTO flushed = posting(accountId, "5.00", "Já gravado");
+        TransactionResponseDTO pending = posting(accountId, "7.25", "Pendente");
+        PostingChain.Link flushedLink = chain(PostingChain.Link.START, flushed);
+        try (PostingJournal journal = new PostingJournal(directory, 0, PostingJournal.FsyncPolicy.ALWAYS, 1 << 20)) {
+            journal.append(flushed, Money.of(new BigDecimal("5.00")), flushedLink);
+            journal.append(pending, Money.of(new BigDecimal("12.25")), chain(flushedLink, pending));
+        }
+        // O primeiro lançamento chegou ao banco antes da "queda"; o segundo não.
+        jdbcTemplate.update("INSERT INTO transactions (id, amount, type, timestamp, description, account_id, chain_seq, chain_hash) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                flushed.id(), flushed.amount(), flushed.type().name(), flushed.timestamp(), flushed.description(), accountId,
+                flushedLink.seq(), flushedLink.hash());
+
+        ShardedPostingEngine engine = new ShardedPostingEngine(accountRepository, accountCache, balanceRollupService, transactionOutbox,
+                balanceCheckpointService, jdbcTemplate, transactionTemplate,
+                true, 1, 100, 5, 1000, true, directory, PostingJournal.FsyncPolicy.GROUP, 1 << 20);
+        engine.start();
+        engine.stop();
+
+        assertEquals(2, transactionRepository.findByAccountIdOrderByTimestampDesc(accountId).size());
+        assertEquals(new BigDecimal("12.2500"), accountRepository.findById(accountId).orElseThrow().getBalance().toBigDecimal());
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
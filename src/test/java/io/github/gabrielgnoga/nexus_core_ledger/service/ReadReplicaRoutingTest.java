@@ -0,0 +1,225 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.config.ReplicaLagMonitor;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.User;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.AccountResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.CreateAccountDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração para o roteamento entre primário e réplica de leitura.
+ * <p>
+ * Usa dois bancos H2 em memória; a "replicação" é uma cópia completa do primário
+ * para a réplica, feita pelo próprio teste, o que permite controlar o atraso. O banco que
+ * respondeu é identificado pela listagem de contas, que não passa pelo cache. Roda com o
+ * open-in-view ligado, o caso em que a sessão do Hibernate dura a requisição inteira.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:rw_primary;DB_CLOSE_DELAY=-1",
+        "api.ledger.read-replica.enabled=true",
+        "api.ledger.read-replica.url=jdbc:h2:mem:rw_replica;DB_CLOSE_DELAY=-1",
+        "api.ledger.read-replica.max-staleness-ms=3000",
+        "api.ledger.read-replica.heartbeat-interval-ms=3600000",
+        "spring.jpa.open-in-view=true"
+})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:rw_primary";
+    private static final String REPLICA_URL = "jdbc:h2:mem:rw_replica";
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountCache accountCache;
+
+    @Autowired
+    private ReplicaLagMonitor monitor;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Leituras vão para a réplica atualizada e voltam ao primário após gravação própria ou atraso excessivo")
+    void readOnlyTransactions_ShouldRouteByStalenessAndReadYourWrites() throws Exception {
+        UUID id = accountService.createAccount(new CreateAccountDTO("Conta Primário", AccountType.ASSET)).id();
+        catchUp();
+
+        // Alteração feita só na réplica identifica qual banco respondeu.
+        renameOnReplica(id, "Conta Réplica");
+        assertEquals("Conta Réplica", findName(id));
+
+        // Read-your-writes: a gravação ainda não replicada obriga a leitura no primário.
+        accountService.updateAccount(id, new CreateAccountDTO("Conta Alterada", AccountType.ASSET));
+        assertEquals("Conta Alterada", findName(id));
+
+        catchUp();
+        renameOnReplica(id, "Conta Réplica 2");
+        assertEquals("Conta Réplica 2", findName(id));
+
+        // Sem novos batimentos aplicados, a réplica passa do atraso máximo e deixa de ser usada.
+        Thread.sleep(3200);
+        monitor.heartbeat();
+        assertEquals("Conta Alterada", findName(id));
+    }
+
+    @Test
+    @DisplayName("Conta fora do cache é carregada do primário, mesmo com a réplica atualizada servindo leituras")
+    void findAccountById_ShouldLoadCacheMissesFromPrimary() throws Exception {
+        UUID id = accountService.createAccount(new CreateAccountDTO("Conta Cache Primário", AccountType.ASSET)).id();
+        catchUp();
+
+        // A réplica está dentro do atraso permitido, mas ainda sem o último estado da conta.
+        renameOnReplica(id, "Conta Réplica Atrasada");
+        assertEquals("Conta Réplica Atrasada", findName(id));
+
+        // Como o motor faz após cada lote gravado.
+        accountCache.invalidate(List.of(id));
+        assertEquals("Conta Cache Primário", cachedName(id));
+        assertEquals("Conta Cache Primário", cachedName(id));
+    }
+
+    @Test
+    @DisplayName("PUT de conta lê a conta e a sua versão do primário, mesmo com a réplica atrasada servindo leituras")
+    void updateAccount_ShouldLoadEntityFromPrimary() throws Exception {
+        User user = userRepository.save(new User("replica-put-" + UUID.randomUUID(), "senha"));
+        UUID id = accountService.createAccount(new CreateAccountDTO("Conta PUT", AccountType.ASSET)).id();
+        catchUp();
+
+        // Gravação no primário que a réplica ainda não recebeu (nome e versão).
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             var update = primary.prepareStatement("UPDATE accounts SET name = ?, version = version + 1 WHERE id = ?")) {
+            update.setString(1, "Conta PUT Primário");
+            update.setObject(2, id);
+            assertEquals(1, update.executeUpdate());
+        }
+
+        mockMvc.perform(put("/api/accounts/{id}", id)
+                        .header("Authorization", "Bearer " + tokenService.generateToken(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Conta PUT Alterada\",\"accountType\":\"ASSET\"}"))
+                .andExpect(status().isOk());
+
+        assertEquals("Conta PUT Alterada", nameOn(PRIMARY_URL, id));
+        assertEquals("Conta PUT", nameOn(REPLICA_URL, id));
+    }
+
+    @Test
+    @DisplayName("Com a sessão aberta pela requisição, gravação depois de leitura na réplica vai para o primário")
+    void updateAfterReplicaRead_ShouldWriteToPrimary_WithOpenSession() throws Exception {
+        UUID id = accountService.createAccount(new CreateAccountDTO("Conta Sessão", AccountType.ASSET)).id();
+        catchUp();
+        renameOnReplica(id, "Conta Sessão Réplica");
+
+        // O mesmo que o OpenEntityManagerInViewInterceptor faz no início e no fim da requisição.
+        var entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            assertEquals("Conta Sessão Réplica", findName(id));
+            accountService.updateAccount(id, new CreateAccountDTO("Conta Sessão Alterada", AccountType.ASSET));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            EntityManagerFactoryUtils.closeEntityManager(entityManager);
+        }
+
+        assertEquals("Conta Sessão Alterada", nameOn(PRIMARY_URL, id));
+        assertEquals("Conta Sessão Réplica", nameOn(REPLICA_URL, id));
+    }
+
+    /** Nome lido por uma transação somente leitura, que segue o roteamento. */
+    private String findName(UUID id) {
+        return accountService.listAccounts(null, null, null, 100).items().stream()
+                .filter(account -> account.id().equals(id))
+                .map(AccountResponseDTO::name)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private String cachedName(UUID id) {
+        return accountService.findAccountById(id).map(AccountResponseDTO::name).orElseThrow();
+    }
+
+    /**
+     * Batimento no primário, cópia completa para a réplica e novo batimento para ler o aplicado.
+     */
+    private void catchUp() throws SQLException, InterruptedException {
+        // Batimento no mesmo milissegundo da gravação não prova que ela foi replicada.
+        Thread.sleep(5);
+        monitor.heartbeat();
+        List<String> script = new ArrayList<>();
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             Statement statement = primary.createStatement();
+             ResultSet rs = statement.executeQuery("SCRIPT")) {
+            while (rs.next()) {
+                script.add(rs.getString(1));
+            }
+        }
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = replica.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : script) {
+                statement.execute(sql);
+            }
+        }
+        monitor.heartbeat();
+    }
+
+    private static String nameOn(String url, UUID id) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             var query = connection.prepareStatement("SELECT name FROM accounts WHERE id = ?")) {
+            query.setObject(1, id);
+            try (ResultSet rs = query.executeQuery()) {
+                assertTrue(rs.next());
+                return rs.getString(1);
+            }
+        }
+    }
+
+    private void renameOnReplica(UUID id, String name) throws SQLException {
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             var update = replica.prepareStatement("UPDATE accounts SET name = ? WHERE id = ?")) {
+            update.setString(1, name);
+            update.setObject(2, id);
+            assertEquals(1, update.executeUpdate());
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.ResourceNotFoundException;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para as falhas de gravação do {@link ShardedPostingEngine}.
+ * <p>
+ * Garante que um lote que nunca consegue ser gravado para o shard em vez de ser repetido
+ * para sempre, que um lançamento cuja escrita no diário falhou não chega ao banco nem ao
+ * saldo em memória, e que contas com lançamentos ainda em memória não podem ser removidas.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class ShardedPostingEngineTest {
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountCache accountCache;
+
+    @Autowired
+    private BalanceRollupService balanceRollupService;
+
+    @Autowired
+    private TransactionOutbox transactionOutbox;
+
+    @Autowired
+    private BalanceCheckpointService balanceCheckpointService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private ShardedPostingEngine startEngine() {
+        return startEngine(false);
+    }
+
+    private ShardedPostingEngine startEngine(boolean journal) {
+        ShardedPostingEngine engine = new ShardedPostingEngine(accountRepository, accountCache, balanceRollupService, transactionOutbox,
+                balanceCheckpointService, jdbcTemplate, transactionTemplate,
+                true, 1, 100, 2, 10, journal, directory, PostingJournal.FsyncPolicy.GROUP, 1 << 20);
+        engine.start();
+        return engine;
+    }
+
+    private UUID newAccount(String name) {
+        Account account = new Account();
+        account.setName(name);
+        account.setAccountType(AccountType.ASSET);
+        return accountRepository.save(account).getId();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(condition.getAsBoolean(), "Condição não atingida em 10s");
+    }
+
+    @Test
+    @DisplayName("Deve parar o shard e recusar novos lançamentos quando um lote falha em todas as tentativas")
+    void flush_ShouldStopShard_WhenBatchKeepsFailing() throws Exception {
+        UUID accountId = newAccount("Conta Motor Lote Inválido");
+        ShardedPostingEngine engine = startEngine();
+        try {
+            engine.post(new TransactionRequestDTO(accountId, BigDecimal.TEN, TransactionType.CREDIT, "Gravado"));
+            await(() -> transactionRepository.findByAccountIdOrderByTimestampDesc(accountId).size() == 1);
+
+            // Descrição maior que a coluna: aceita em memória, mas o INSERT falha sempre.
+            engine.post(new TransactionRequestDTO(accountId, BigDecimal.ONE, TransactionType.CREDIT, "x".repeat(300)));
+
+            await(() -> {
+                try {
+                    engine.post(new TransactionRequestDTO(accountId, BigDecimal.ONE, TransactionType.CREDIT, "Depois da falha"));
+                    return false;
+                } catch (IllegalStateException e) {
+                    return true;
+                }
+            });
+            assertThrows(IllegalStateException.class, () -> engine.deleteAccount(accountId));
+        } finally {
+            engine.stop();
+        }
+
+        assertEquals(1, transactionRepository.findByAccountIdOrderByTimestampDesc(accountId).size());
+        assertEquals(0, new BigDecimal("10").compareTo(accountRepository.findById(accountId).orElseThrow().getBalance().toBigDecimal()));
+    }
+
+    @Test
+    @DisplayName("Deve recusar a remoção de conta com lançamentos em memória e remover conta sem lançamentos")
+    void deleteAccount_ShouldGoThroughOwningShard() throws Exception {
+        UUID postedId = newAccount("Conta Motor Com Lançamentos");
+        UUID emptyId = newAccount("Conta Motor Sem Lançamentos");
+        ShardedPostingEngine engine = startEngine();
+        try {
+            engine.post(new TransactionRequestDTO(postedId, new BigDecimal("5"), TransactionType.CREDIT, "Pendente"));
+            assertThrows(DataIntegrityViolationException.class, () -> engine.deleteAccount(postedId));
+
+            engine.deleteAccount(emptyId);
+            assertFalse(accountRepository.existsById(emptyId));
+            assertThrows(ResourceNotFoundException.class,
+                    () -> engine.post(new TransactionRequestDTO(emptyId, BigDecimal.ONE, TransactionType.CREDIT, "Conta removida")));
+
+            await(() -> transactionRepository.findByAccountIdOrderByTimestampDesc(postedId).size() == 1);
+        } finally {
+            engine.stop();
+        }
+
+        assertEquals(0, new BigDecimal("5").compareTo(accountRepository.findById(postedId).orElseThrow().getBalance().toBigDecimal()));
+    }
+
+    @Test
+    @DisplayName("Deve recusar o lançamento e parar o shard quando a escrita no diário falha")
+    void post_ShouldNotApplyPosting_WhenJournalFails() throws Exception {
+        UUID accountId = newAccount("Conta Motor Diário Indisponível");
+        ShardedPostingEngine engine = startEngine(true);
+        try {
+            engine.post(new TransactionRequestDTO(accountId, BigDecimal.TEN, TransactionType.CREDIT, "Durável"));
+            await(() -> transactionRepository.findByAccountIdOrderByTimestampDesc(accountId).size() == 1);
+
+            journalChannel(engine).close();
+            assertThrows(UncheckedIOException.class,
+                    () -> engine.post(new TransactionRequestDTO(accountId, BigDecimal.ONE, TransactionType.CREDIT, "Sem diário")));
+            assertThrows(IllegalStateException.class,
+                    () -> engine.post(new TransactionRequestDTO(accountId, BigDecimal.ONE, TransactionType.CREDIT, "Depois da falha")));
+        } finally {
+            engine.stop();
+        }
+
+        assertEquals(1, transactionRepository.findByAccountIdOrderByTimestampDesc(accountId).size());
+        assertEquals(0, BigDecimal.TEN.compareTo(accountRepository.findById(accountId).orElseThrow().getBalance().toBigDecimal()));
+    }
+
+    /** O canal do diário do único shard, para simular uma falha de E/S. */
+    private static FileChannel journalChannel(ShardedPostingEngine engine) throws ReflectiveOperationException {
+        Object shard = ((Object[]) field(ShardedPostingEngine.class, "shards").get(engine))[0];
+        Object journal = field(shard.getClass(), "journal").get(shard);
+        return (FileChannel) field(PostingJournal.class, "channel").get(journal);
+    }
+
+    private static Field field(Class<?> type, String name) throws NoSuchFieldException {
+        Field field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Transaction;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.StatementPageDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.ResourceNotFoundException;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para a exportação do extrato em NDJSON ({@link StatementExportService}).
+ * <p>
+ * Garante uma linha por transação, na mesma ordem do extrato paginado (inclusive com
+ * timestamps repetidos), a recusa de contas inexistentes antes do streaming e a saída
+ * vazia para contas sem transações.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class StatementExportServiceTest {
+
+    private static final int TOTAL = 25;
+
+    @Autowired
+    private StatementExportService statementExportService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Account newAccount(String name) {
+        Account account = new Account();
+        account.setName(name);
+        account.setAccountType(AccountType.ASSET);
+        return accountRepository.save(account);
+    }
+
+    @Test
+    @DisplayName("Deve exportar uma linha por transação, na ordem do extrato, com timestamps repetidos")
+    void export_ShouldWriteOneLinePerTransaction_InStatementOrder() throws Exception {
+        Account account = newAccount("Conta Exportação");
+
+        // Timestamps repetidos de 5 em 5 forçam o desempate pelo ID.
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 12, 0);
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < TOTAL; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setAmount(Money.of(BigDecimal.valueOf(i + 1)));
+            transaction.setType(TransactionType.CREDIT);
+            transaction.setTimestamp(base.plusMinutes(i / 5));
+            transaction.setDescription("Exportação " + i);
+            transaction.setAccount(account);
+            transactions.add(transaction);
+        }
+        transactionRepository.saveAll(transactions);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        statementExportService.export(account.getId(), output);
+        String ndjson = output.toString(StandardCharsets.UTF_8);
+
+        assertTrue(ndjson.endsWith("\n"));
+        String[] lines = ndjson.split("\n");
+        assertEquals(TOTAL, lines.length);
+
+        List<UUID> exported = new ArrayList<>();
+        for (String line : lines) {
+            TransactionResponseDTO item = objectMapper.readValue(line, TransactionResponseDTO.class);
+            assertEquals(account.getId(), item.accountId());
+            exported.add(item.id());
+        }
+
+        List<UUID> statement = new ArrayList<>();
+        String cursor = null;
+        do {
+            StatementPageDTO page = transactionService.getStatement(account.getId(), cursor, 7);
+            page.items().forEach(item -> statement.add(item.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        assertEquals(statement, exported);
+    }
+
+    @Test
+    @DisplayName("Deve recusar a exportação de conta inexistente antes de iniciar a resposta")
+    void requireAccount_ShouldThrow_WhenAccountDoesNotExist() {
+        assertThrows(ResourceNotFoundException.class, () -> statementExportService.requireAccount(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("Deve exportar uma saída vazia para conta sem transações")
+    void export_ShouldWriteNothing_WhenAccountHasNoTransactions() throws Exception {
+        UUID accountId = newAccount("Conta Exportação Vazia").getId();
+        statementExportService.requireAccount(accountId);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        statementExportService.export(accountId, output);
+
+        assertEquals(0, output.size());
+    }
+}
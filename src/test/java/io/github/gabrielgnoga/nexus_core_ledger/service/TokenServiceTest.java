@@ -0,0 +1,40 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para {@link TokenService}.
+ * <p>
+ * Garante que o cache de tokens verificados não altera o resultado da validação.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+class TokenServiceTest {
+
+    private final TokenService tokenService = new TokenService("segredo-de-teste", 100);
+
+    @Test
+    @DisplayName("Deve devolver o login em validações repetidas do mesmo token")
+    void validateToken_ShouldReturnSubject_WhenTokenIsValidatedRepeatedly() {
+        String token = tokenService.generateToken(new User("gabriel@nexus.com", "senha"));
+
+        assertEquals("gabriel@nexus.com", tokenService.validateToken(token));
+        assertEquals("gabriel@nexus.com", tokenService.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tokens adulterados ou assinados com outro segredo")
+    void validateToken_ShouldReturnEmpty_WhenTokenIsInvalid() {
+        String token = tokenService.generateToken(new User("gabriel@nexus.com", "senha"));
+        String foreign = new TokenService("outro-segredo", 100).generateToken(new User("gabriel@nexus.com", "senha"));
+
+        assertEquals("", tokenService.validateToken(token + "x"));
+        assertEquals("", tokenService.validateToken(foreign));
+        assertEquals("", tokenService.validateToken("nao-e-um-jwt"));
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração de {@link TransactionPartitionManager} em PostgreSQL (Testcontainers).
+ * <p>
+ * Executa a DDL da tabela particionada, a criação de partições com linhas já na partição
+ * {@code DEFAULT} e a retenção com gravação das âncoras. Ignorado quando não há Docker.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TransactionPartitionManagerPostgresTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void resetSchema() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        jdbcTemplate.execute("DROP SCHEMA public CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA public");
+    }
+
+    private TransactionPartitionManager start(int monthsAhead, int retentionMonths) {
+        TransactionPartitionManager manager = new TransactionPartitionManager(jdbcTemplate, true, monthsAhead, retentionMonths);
+        manager.start();
+        return manager;
+    }
+
+    private void insert(UUID accountId, YearMonth month, long chainSeq) {
+        jdbcTemplate.update("""
+                INSERT INTO transactions (id, amount, type, timestamp, account_id, chain_seq, chain_hash)
+                VALUES (?, 1, 'CREDIT', ?, ?, ?, ?)
+                """, UUID.randomUUID(), Timestamp.valueOf(month.atDay(10).atStartOfDay()), accountId, chainSeq,
+                new byte[]{(byte) chainSeq});
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'transactions'::regclass
+                """, String.class);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    @Test
+    @DisplayName("Deve criar a tabela particionada com todas as colunas e índices da entidade e as partições dos meses")
+    void start_ShouldCreateFullPartitionedSchema() {
+        start(2, 0);
+
+        List<String> columns = jdbcTemplate.queryForList(
+                "SELECT column_name FROM information_schema.columns WHERE table_name = 'transactions'", String.class);
+        assertTrue(columns.containsAll(List.of("id", "amount", "type", "timestamp", "description",
+                "account_id", "journal_entry_id", "chain_seq", "chain_hash")));
+
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE tablename = 'transactions'", String.class);
+        assertTrue(indexes.containsAll(List.of("idx_transactions_account_timestamp", "idx_transactions_account_chain")));
+
+        YearMonth current = YearMonth.now();
+        assertTrue(partitions().containsAll(List.of("transactions_default",
+                TransactionPartitionManager.partitionName(current),
+                TransactionPartitionManager.partitionName(current.plusMonths(2)))));
+        assertEquals(0, count("chain_anchors"));
+    }
+
+    @Test
+    @DisplayName("Deve mover para a nova partição as linhas do mês que estavam na partição DEFAULT")
+    void maintain_ShouldMoveDefaultRows_WhenCreatingMonth() {
+        start(0, 0);
+        YearMonth later = YearMonth.now().plusMonths(2);
+        insert(UUID.randomUUID(), later, 1);
+        assertEquals(1, count("transactions_default"));
+
+        start(3, 0);
+
+        assertEquals(0, count("transactions_default"));
+        assertEquals(1, count(TransactionPartitionManager.partitionName(later)));
+        assertEquals(1, count("transactions"));
+    }
+
+    @Test
+    @DisplayName("Deve desanexar partições fora da retenção gravando o último elo de cada conta como âncora")
+    void maintain_ShouldDetachExpiredPartition_AndRecordAnchors() {
+        TransactionPartitionManager manager = start(0, 12);
+        YearMonth old = YearMonth.now().minusMonths(14);
+        manager.createPartition(old);
+
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        insert(first, old, 1);
+        insert(first, old, 2);
+        insert(second, old, 1);
+        insert(first, YearMonth.now(), 3);
+
+        manager.maintain();
+
+        String partition = TransactionPartitionManager.partitionName(old);
+        assertFalse(partitions().contains(partition));
+        assertEquals(3, count(partition));
+        assertEquals(1, count("transactions"));
+
+        Map<UUID, Long> anchors = new HashMap<>();
+        jdbcTemplate.query("SELECT account_id, chain_seq FROM chain_anchors",
+                rs -> {
+                    anchors.put(rs.getObject(1, UUID.class), rs.getLong(2));
+                });
+        assertEquals(Map.of(first, 2L, second, 1L), anchors);
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para {@link TransactionPartitionManager}.
+ * <p>
+ * Valida os limites das partições mensais e que, fora do PostgreSQL, o
+ * particionamento é ignorado sem alterar o banco.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+class TransactionPartitionManagerTest {
+
+    @Test
+    @DisplayName("Deve gerar a partição do mês com limite inferior inclusivo e superior no mês seguinte")
+    void createPartitionSql_ShouldCoverWholeMonth_IncludingYearBoundary() {
+        YearMonth december = YearMonth.of(2026, 12);
+        assertEquals("CREATE TABLE transactions_p2026_12 (LIKE transactions INCLUDING DEFAULTS INCLUDING CONSTRAINTS)",
+                TransactionPartitionManager.createPartitionSql(december));
+        assertEquals("WITH moved AS (DELETE FROM transactions_default"
+                        + " WHERE timestamp >= '2026-12-01' AND timestamp < '2027-01-01' RETURNING *)"
+                        + " INSERT INTO transactions_p2026_12 SELECT * FROM moved",
+                TransactionPartitionManager.moveFromDefaultSql(december));
+        assertEquals("ALTER TABLE transactions ATTACH PARTITION transactions_p2026_12"
+                        + " FOR VALUES FROM ('2026-12-01') TO ('2027-01-01')",
+                TransactionPartitionManager.attachPartitionSql(december));
+
+        assertEquals(YearMonth.of(2026, 3), TransactionPartitionManager.partitionMonth("transactions_p2026_03"));
+        assertNull(TransactionPartitionManager.partitionMonth("transactions_default"));
+    }
+
+    @Test
+    @DisplayName("Deve gravar como âncora o último elo de cada conta da partição, sem retroceder âncoras posteriores")
+    void recordAnchorsSql_ShouldKeepLatestLinkPerAccount() {
+        assertEquals("INSERT INTO chain_anchors (account_id, chain_seq, chain_hash)"
+                        + " SELECT DISTINCT ON (account_id) account_id, chain_seq, chain_hash FROM transactions_p2026_01"
+                        + " WHERE chain_seq IS NOT NULL ORDER BY account_id, chain_seq DESC"
+                        + " ON CONFLICT (account_id) DO UPDATE SET chain_seq = EXCLUDED.chain_seq, chain_hash = EXCLUDED.chain_hash"
+                        + " WHERE chain_anchors.chain_seq < EXCLUDED.chain_seq",
+                TransactionPartitionManager.recordAnchorsSql(TransactionPartitionManager.partitionName(YearMonth.of(2026, 1))));
+    }
+
+    @Test
+    @DisplayName("Em H2 o particionamento deve ser ignorado, mantendo a tabela única")
+    void start_ShouldDoNothing_WhenDatabaseIsNotPostgres() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:partitioning_test", "sa", ""));
+        TransactionPartitionManager manager = new TransactionPartitionManager(jdbcTemplate, true, 3, 12);
+
+        manager.start();
+        manager.maintain();
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME LIKE 'TRANSACTIONS%'", Integer.class));
+    }
+}
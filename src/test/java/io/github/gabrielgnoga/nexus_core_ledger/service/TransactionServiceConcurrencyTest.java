@@ -0,0 +1,126 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.InsufficientBalanceException;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de concorrência para {@link TransactionService#create}.
+ * <p>
+ * Dispara muitos débitos simultâneos na mesma conta e garante que nenhuma
+ * atualização de saldo é perdida (controle otimista com retentativa).
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "api.ledger.optimistic-retry.max-attempts=100",
+        "logging.level.org.hibernate.orm.jdbc.batch=OFF"
+})
+class TransactionServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int DEBITS = 400;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Conta gravada antes do controle de versão deve aceitar lançamentos após a inicialização")
+    void create_ShouldPost_WhenAccountVersionWasNull() {
+        Account account = new Account();
+        account.setName("Conta Sem Versão");
+        account.setAccountType(AccountType.ASSET);
+        UUID accountId = accountRepository.save(account).getId();
+
+        // Como uma linha que já existia quando o ddl-auto criou a coluna.
+        jdbcTemplate.update("UPDATE accounts SET version = NULL WHERE id = ?", accountId);
+        accountService.initializeMissingVersions();
+
+        transactionService.create(new TransactionRequestDTO(accountId, BigDecimal.TEN, TransactionType.CREDIT, "Após a migração"));
+
+        Account reloaded = accountRepository.findById(accountId).orElseThrow();
+        assertEquals(0, BigDecimal.TEN.compareTo(reloaded.getBalance().toBigDecimal()));
+        assertEquals(1L, reloaded.getVersion());
+    }
+
+    @Test
+    @DisplayName("Débitos concorrentes devem manter o saldo exato, sem atualizações perdidas")
+    void create_ShouldKeepBalanceExact_WhenDebitsRunConcurrently() throws Exception {
+        Account account = new Account();
+        account.setName("Conta Concorrente");
+        account.setAccountType(AccountType.ASSET);
+        account.setBalance(Money.of(new BigDecimal("300.00")));
+        UUID accountId = accountRepository.save(account).getId();
+
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < DEBITS; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    transactionService.create(new TransactionRequestDTO(
+                            accountId, BigDecimal.ONE, TransactionType.DEBIT, "Débito concorrente"));
+                    accepted.incrementAndGet();
+                } catch (InsufficientBalanceException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        BigDecimal balance = accountRepository.findById(accountId).orElseThrow().getBalance().toBigDecimal();
+
+        assertEquals(300, accepted.get());
+        assertEquals(100, rejected.get());
+        assertEquals(0, balance.compareTo(BigDecimal.ZERO));
+        assertEquals(300, transactionRepository.findByAccountIdOrderByTimestampDesc(accountId).size());
+        assertTrue(transactionService.getContentionStats().conflicts() > 0);
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionRequestDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.InvalidRequestException;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para {@link TransactionService#create(TransactionRequestDTO, String)}.
+ * <p>
+ * Garante que repetições com a mesma {@code Idempotency-Key}, inclusive simultâneas,
+ * geram um único lançamento.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class TransactionServiceIdempotencyTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        Account account = new Account();
+        account.setName("Conta Idempotente");
+        account.setAccountType(AccountType.ASSET);
+        account.setBalance(Money.of(new BigDecimal("100.00")));
+        accountId = accountRepository.save(account).getId();
+    }
+
+    private TransactionRequestDTO debit(String amount) {
+        return new TransactionRequestDTO(accountId, new BigDecimal(amount), TransactionType.DEBIT, "Pagamento");
+    }
+
+    @Test
+    @DisplayName("Repetições com a mesma chave devem devolver a transação original sem novo débito")
+    void create_ShouldReplayOriginal_WhenKeyIsRepeated() {
+        String key = UUID.randomUUID().toString();
+
+        TransactionResponseDTO first = transactionService.create(debit("10.00"), key);
+        TransactionResponseDTO retry = transactionService.create(debit("10"), key);
+
+        assertEquals(first.id(), retry.id());
+        assertEquals(1, transactionRepository.findByAccountIdOrderByTimestampDesc(accountId).size());
+        assertEquals(0, accountRepository.findById(accountId).orElseThrow().getBalance().toBigDecimal().compareTo(new BigDecimal("90.00")));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a reutilização da chave com outra requisição")
+    void create_ShouldThrow_WhenKeyIsReusedWithDifferentRequest() {
+        String key = UUID.randomUUID().toString();
+        transactionService.create(debit("10.00"), key);
+
+        assertThrows(InvalidRequestException.class, () -> transactionService.create(debit("20.00"), key));
+    }
+
+    @Test
+    @DisplayName("Requisições simultâneas com a mesma chave devem gerar um único lançamento")
+    void create_ShouldPostOnce_WhenSameKeyArrivesConcurrently() throws Exception {
+        String key = UUID.randomUUID().toString();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        List<Future<TransactionResponseDTO>> futures = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return transactionService.create(debit("10.00"), key);
+            }));
+        }
+        start.countDown();
+        Set<UUID> ids = new HashSet<>();
+        for (Future<TransactionResponseDTO> future : futures) {
+            ids.add(future.get(30, TimeUnit.SECONDS).id());
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(1, ids.size());
+        assertEquals(1, transactionRepository.findByAccountIdOrderByTimestampDesc(accountId).size());
+        assertEquals(0, accountRepository.findById(accountId).orElseThrow().getBalance().toBigDecimal().compareTo(new BigDecimal("90.00")));
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Account;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.AccountType;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Money;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.Transaction;
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.TransactionType;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.StatementPageDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.dto.TransactionResponseDTO;
+import io.github.gabrielgnoga.nexus_core_ledger.exception.InvalidRequestException;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.AccountRepository;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.TransactionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o extrato paginado de {@link TransactionService}.
+ * <p>
+ * Garante que a paginação por cursor percorre todo o histórico sem repetir
+ * nem perder linhas, inclusive quando várias transações têm o mesmo timestamp.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TransactionServiceStatementTest {
+
+    private static final int TOTAL = 25;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        Account account = new Account();
+        account.setName("Conta Extrato");
+        account.setAccountType(AccountType.ASSET);
+        account = accountRepository.save(account);
+        accountId = account.getId();
+
+        // Timestamps repetidos de 5 em 5 forçam o desempate pelo ID.
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 12, 0);
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < TOTAL; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setAmount(Money.of(BigDecimal.ONE));
+            transaction.setType(TransactionType.CREDIT);
+            transaction.setTimestamp(base.plusMinutes(i / 5));
+            transaction.setAccount(account);
+            transactions.add(transaction);
+        }
+        transactionRepository.saveAll(transactions);
+    }
+
+    @Test
+    @DisplayName("Deve percorrer o extrato inteiro por cursor, sem repetir nem perder transações")
+    void getStatement_ShouldWalkWholeHistory_WhenFollowingCursors() {
+        Set<UUID> seen = new HashSet<>();
+        List<TransactionResponseDTO> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            StatementPageDTO page = transactionService.getStatement(accountId, cursor, 7);
+            assertTrue(page.items().size() <= 7);
+            page.items().forEach(item -> assertTrue(seen.add(item.id())));
+            all.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(TOTAL, all.size());
+        assertEquals(4, pages);
+        for (int i = 1; i < all.size(); i++) {
+            assertFalse(all.get(i).timestamp().isAfter(all.get(i - 1).timestamp()));
+        }
+    }
+
+    @Test
+    @DisplayName("Cada página do extrato deve executar exatamente uma instrução SQL")
+    void getStatement_ShouldRunSingleQuery_PerPage() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        StatementPageDTO first = transactionService.getStatement(accountId, null, 10);
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        transactionService.getStatement(accountId, first.nextCursor(), 10);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar um cursor malformado")
+    void getStatement_ShouldThrow_WhenCursorIsInvalid() {
+        assertThrows(InvalidRequestException.class,
+                () -> transactionService.getStatement(accountId, "nao-e-um-cursor", 10));
+    }
+}
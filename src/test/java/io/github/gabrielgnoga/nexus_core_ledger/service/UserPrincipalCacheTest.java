@@ -0,0 +1,62 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.domain.model.User;
+import io.github.gabrielgnoga.nexus_core_ledger.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para {@link UserPrincipalCache}.
+ * <p>
+ * Garante que o cache guarda uma cópia do usuário, e não a entidade, e que é invalidado
+ * quando o usuário é removido ou troca de login.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class UserPrincipalCacheTest {
+
+    @Autowired
+    private UserPrincipalCache principalCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("Deve deixar de autenticar o usuário assim que ele for removido")
+    void get_ShouldReturnNull_AfterUserIsDeleted() {
+        User user = userRepository.save(new User("cache@nexus.com", "senha"));
+
+        assertNotNull(principalCache.get("cache@nexus.com"));
+
+        userRepository.delete(user);
+
+        assertNull(principalCache.get("cache@nexus.com"));
+    }
+
+    @Test
+    @DisplayName("Deve guardar uma cópia imutável e deixar de autenticar o login antigo após a troca de login")
+    void get_ShouldForgetPreviousLogin_AfterRename() {
+        User user = userRepository.save(new User("antigo@nexus.com", "senha"));
+
+        UserDetails cached = principalCache.get("antigo@nexus.com");
+        assertFalse(cached instanceof User);
+        assertEquals("antigo@nexus.com", cached.getUsername());
+        assertEquals("senha", cached.getPassword());
+        assertSame(cached, principalCache.get("antigo@nexus.com"));
+
+        User loaded = userRepository.findById(user.getId()).orElseThrow();
+        ReflectionTestUtils.setField(loaded, "login", "novo@nexus.com");
+        userRepository.save(loaded);
+
+        assertNull(principalCache.get("antigo@nexus.com"));
+        assertEquals("novo@nexus.com", principalCache.get("novo@nexus.com").getUsername());
+    }
+}
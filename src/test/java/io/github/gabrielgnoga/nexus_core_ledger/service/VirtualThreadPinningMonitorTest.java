@@ -0,0 +1,63 @@
+package io.github.gabrielgnoga.nexus_core_ledger.service;
+
+import io.github.gabrielgnoga.nexus_core_ledger.dto.PinningStatsDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para {@link VirtualThreadPinningMonitor}.
+ * <p>
+ * Provoca um pinning real (sleep dentro de {@code synchronized} em uma virtual thread)
+ * e verifica que o evento é contabilizado com o local de origem.
+ * </p>
+ * @author Gabriel Gnoga
+ * @since 1.1.0
+ */
+class VirtualThreadPinningMonitorTest {
+
+    private final Object lock = new Object();
+
+    @Test
+    @DisplayName("Deve registrar a virtual thread presa dentro de um bloco synchronized")
+    void stats_ShouldReportPinning_WhenVirtualThreadBlocksInsideSynchronized() throws Exception {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(true, true, 10);
+        monitor.start();
+        try {
+            Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+            PinningStatsDTO stats = monitor.stats();
+            for (int i = 0; i < 100 && stats.events() == 0; i++) {
+                Thread.sleep(100);
+                stats = monitor.stats();
+            }
+
+            assertTrue(stats.enabled());
+            assertTrue(stats.events() > 0);
+            assertTrue(stats.topSites().keySet().stream().anyMatch(site -> site.contains("sleepWhileHoldingMonitor")));
+        } finally {
+            monitor.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve iniciar o diagnóstico sem virtual threads")
+    void stats_ShouldBeDisabled_WhenVirtualThreadsAreOff() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(false, true, 10);
+        monitor.start();
+
+        assertFalse(monitor.stats().enabled());
+        monitor.stop();
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}